@@ -0,0 +1,110 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// End-to-end cost of answering the JSON endpoints: controller method plus Jackson serialization of the body
+// (the same ObjectMapper configuration Spring MVC uses by default), without HTTP.
+// The legacy* benchmarks serialize the HashMap bodies the record DTOs replaced, for comparing gc.alloc.rate.norm;
+// both forms produce the same JSON bytes (see ResponseSerializationTest).
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ooad_kd_yz.polywordic.controller.PolywordicController;
+import com.ooad_kd_yz.polywordic.dto.GameCreatedResponse;
+import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.repository.WordRepository;
+import com.ooad_kd_yz.polywordic.service.PolywordicGameService;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ControllerSerializationBenchmark {
+
+    private static final String[] GUESSES = {"CRANE", "LIGHT", "HOUSE", "WATER", "MUSIC"};
+
+    private ObjectMapper objectMapper;
+    private PolywordicGameService service;
+    private PolywordicController controller;
+    private String playedGameId; // game with a few guesses, for GET /api/game/{gameId}
+    private String activeGameId;
+    private int index;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        service = new PolywordicGameService(new WordRepository());
+        controller = new PolywordicController(service);
+
+        playedGameId = service.createNewGame("EASY").getGameId();
+        for (int i = 0; i < 3; i++) {
+            service.makeGuess(playedGameId, GUESSES[i]);
+        }
+        activeGameId = service.createNewGame("EASY").getGameId();
+    }
+
+    @Benchmark
+    public byte[] createGameResponse() throws Exception {
+        GameCreatedResponse body = (GameCreatedResponse) controller.createNewGame("HARD").getBody();
+        service.deleteGame(body.gameId()); // keep the store at a steady size
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] getGameResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(controller.getGame(playedGameId).getBody());
+    }
+
+    @Benchmark
+    public byte[] guessResponse() throws Exception {
+        Object body = controller.makeGuess(activeGameId, Map.of("guess", GUESSES[index++ % GUESSES.length])).getBody();
+        if (service.getGame(activeGameId).isGameOver()) {
+            service.deleteGame(activeGameId);
+            activeGameId = service.createNewGame("EASY").getGameId();
+        }
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] legacyGetGameResponse() throws Exception {
+        GameStateContext game = service.getGame(playedGameId);
+        Map<String, Object> response = new HashMap<>();
+        response.put("gameId", game.getGameId());
+        response.put("maxAttempts", game.getMaxAttempts());
+        response.put("currentAttempt", game.getCurrentAttempt());
+        response.put("remainingAttempts", game.getRemainingAttempts());
+        response.put("gameOver", game.isGameOver());
+        response.put("won", game.isWon());
+        response.put("stateName", game.getStateName());
+        response.put("guesses", game.getGuesses());
+        response.put("letterStatuses", game.getKeyboardState());
+        if (game.isGameOver()) {
+            response.put("targetWord", game.getTargetWordString());
+        }
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] legacyGuessResponse() throws Exception {
+        PolywordicWord result = service.makeGuess(activeGameId, GUESSES[index++ % GUESSES.length]).toWord();
+        GameStateContext game = service.getGame(activeGameId);
+        Map<String, Object> response = new HashMap<>();
+        response.put("guess", result.getWord());
+        response.put("results", result.getLetters());
+        response.put("gameOver", game.isGameOver());
+        response.put("won", game.isWon());
+        response.put("stateName", game.getStateName());
+        response.put("currentAttempt", game.getCurrentAttempt());
+        response.put("remainingAttempts", game.getRemainingAttempts());
+        response.put("letterStatuses", game.getKeyboardState());
+        if (game.isGameOver()) {
+            response.put("targetWord", game.getTargetWordString());
+            service.deleteGame(activeGameId);
+            activeGameId = service.createNewGame("EASY").getGameId();
+        }
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
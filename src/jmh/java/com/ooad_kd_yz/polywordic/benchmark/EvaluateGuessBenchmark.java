@@ -0,0 +1,54 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// Compares the original HashMap-counting evaluator (legacyEvaluateGuess, a frozen copy in LegacyPolywordicWord),
+// the PolywordicWord.evaluateGuess API (builds guess word, letters and result list on top of the packed evaluator)
+// and the allocation-free packed GuessEvaluator path. Compare gc.alloc.rate.norm (bytes/op) and ns/op.
+
+import com.ooad_kd_yz.polywordic.model.GuessEvaluator;
+import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class EvaluateGuessBenchmark {
+
+    // mix of duplicate-letter, partial and exact matches so branches aren't trivially predictable
+    private static final String[] TARGETS = {"APPLE", "SPEED", "LINES", "WATCH", "CRANE", "EERIE", "ROBOT", "GHOST"};
+    private static final String[] GUESSES = {"PAPAL", "ERASE", "LLAMA", "WAVES", "CRANE", "GEESE", "BOOTS", "HOSTS"};
+
+    private LegacyPolywordicWord[] legacyTargetWords;
+    private PolywordicWord[] targetWords;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        legacyTargetWords = new LegacyPolywordicWord[TARGETS.length];
+        targetWords = new PolywordicWord[TARGETS.length];
+        for (int i = 0; i < TARGETS.length; i++) {
+            legacyTargetWords[i] = new LegacyPolywordicWord(TARGETS[i]);
+            targetWords[i] = new PolywordicWord(TARGETS[i]);
+        }
+    }
+
+    // what the game did per guess before the packed evaluator: build the guess word, then evaluate it
+    @Benchmark
+    public Object legacyEvaluateGuess() {
+        int i = index++ & (TARGETS.length - 1);
+        return legacyTargetWords[i].evaluateGuess(new LegacyPolywordicWord(GUESSES[i]));
+    }
+
+    @Benchmark
+    public Object evaluateGuessApi() {
+        int i = index++ & (TARGETS.length - 1);
+        return targetWords[i].evaluateGuess(new PolywordicWord(GUESSES[i]));
+    }
+
+    @Benchmark
+    public int packedEvaluate() {
+        int i = index++ & (TARGETS.length - 1);
+        return GuessEvaluator.evaluate(TARGETS[i], GUESSES[i]);
+    }
+}
@@ -0,0 +1,51 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// Games created per second: BATCH single createNewGame calls versus one createNewGames(BATCH) call.
+// Throughput is reported per game (@OperationsPerInvocation), so the two scores compare directly.
+// Every created game is deleted again so the store stays at a steady size across iterations.
+
+import com.ooad_kd_yz.polywordic.repository.WordRepository;
+import com.ooad_kd_yz.polywordic.service.PolywordicGameService;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class GameCreationBenchmark {
+
+    private static final int BATCH = 100;
+
+    private PolywordicGameService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = new PolywordicGameService(new WordRepository());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    @Threads(4)
+    public void singleCreate() {
+        GameStateContext[] games = new GameStateContext[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            games[i] = service.createNewGame("MEDIUM");
+        }
+        for (GameStateContext game : games) {
+            service.deleteGame(game.getGameId());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    @Threads(4)
+    public void bulkCreate() {
+        List<GameStateContext> games = service.createNewGames("MEDIUM", BATCH);
+        for (GameStateContext game : games) {
+            service.deleteGame(game.getGameId());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// Per-request hot path of a game: building words, reading the keyboard state,
+// creating games and making guesses through PolywordicGameService.
+
+import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.repository.WordRepository;
+import com.ooad_kd_yz.polywordic.service.PolywordicGameService;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class GameHotPathBenchmark {
+
+    private static final String[] GUESSES = {"CRANE", "LIGHT", "HOUSE", "WATER", "MUSIC"};
+
+    private PolywordicGameService service;
+    private GameStateContext playedGame; // target never guessed, so it stays ACTIVE with 5 guesses
+    private String activeGameId;
+    private int index;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        service = new PolywordicGameService(new WordRepository());
+
+        playedGame = new GameStateContext("played", "APPLE", 6);
+        for (String guess : GUESSES) {
+            playedGame.makeGuess(guess);
+        }
+        activeGameId = service.createNewGame("EASY").getGameId();
+    }
+
+    @Benchmark
+    public Object constructWord() {
+        return new PolywordicWord(GUESSES[index++ % GUESSES.length]);
+    }
+
+    @Benchmark
+    public Object keyboardState() {
+        return playedGame.getKeyboardState();
+    }
+
+    @Benchmark
+    public Object aggregateLetterStatuses() {
+        return playedGame.getAggregateLetterStatuses();
+    }
+
+    @Benchmark
+    public Object createNewGame() {
+        GameStateContext game = service.createNewGame("MEDIUM");
+        service.deleteGame(game.getGameId()); // keep the store at a steady size
+        return game;
+    }
+
+    @Benchmark
+    public Object makeGuess() {
+        try {
+            return service.makeGuess(activeGameId, GUESSES[index++ % GUESSES.length]);
+        } catch (IllegalStateException gameOver) {
+            service.deleteGame(activeGameId);
+            activeGameId = service.createNewGame("EASY").getGameId();
+            return gameOver;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// Cost of minting a game ID (nextId + string form) and of resolving a request's ID string back to its store key,
+// for the default time-based generator versus the UUID generator, under 8 concurrent creating threads.
+
+import com.ooad_kd_yz.polywordic.id.IGameIdGenerator;
+import com.ooad_kd_yz.polywordic.id.TimeBasedGameIdGenerator;
+import com.ooad_kd_yz.polywordic.id.UuidGameIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GameIdBenchmark {
+
+    @Param({"time", "uuid"})
+    public String generatorType;
+
+    private IGameIdGenerator generator;
+    private String existingId;
+
+    @Setup
+    public void setUp() {
+        generator = "uuid".equals(generatorType) ? new UuidGameIdGenerator() : new TimeBasedGameIdGenerator(1);
+        existingId = generator.format(generator.nextId());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String nextId() {
+        return generator.format(generator.nextId());
+    }
+
+    @Benchmark
+    public long parse() {
+        return generator.parse(existingId);
+    }
+}
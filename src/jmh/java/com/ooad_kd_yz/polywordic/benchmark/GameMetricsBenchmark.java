@@ -0,0 +1,53 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// Cost of recording game metrics on the request path.
+// gc.alloc.rate.norm should be ~0 B/op for every benchmark: meters are resolved at construction.
+
+import com.ooad_kd_yz.polywordic.metrics.MicrometerGameMetrics;
+import com.ooad_kd_yz.polywordic.store.InMemoryGameStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GameMetricsBenchmark {
+
+    private static final String[] DIFFICULTIES = {"EASY", "MEDIUM", "HARD"};
+
+    private MicrometerGameMetrics metrics;
+
+    @Setup
+    public void setUp() {
+        metrics = new MicrometerGameMetrics(new SimpleMeterRegistry(), new InMemoryGameStore());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void gameCreated(ThreadIndex thread) {
+        metrics.gameCreated(DIFFICULTIES[thread.next() % DIFFICULTIES.length]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void guessAccepted(ThreadIndex thread) {
+        metrics.guessAccepted(1_000L + thread.next() % 100_000);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void gameFinished(ThreadIndex thread) {
+        metrics.gameFinished((thread.next() & 1) == 0);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadIndex {
+        private int index;
+
+        int next() {
+            return index++ & Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// getRandomWord throughput at 1, 8 and 64 threads: the previous single shared java.util.Random
+// (CAS on one seed) versus the default thread-local RandomWordSelectionStrategy.
+
+import com.ooad_kd_yz.polywordic.repository.WordRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GetRandomWordBenchmark {
+
+    private WordRepository repository;
+    private List<String> words;
+    private Random sharedRandom;
+
+    @Setup
+    public void setUp() {
+        repository = new WordRepository();
+        words = repository.getAllWords();
+        sharedRandom = new Random();
+    }
+
+    private String sharedRandomWord() {
+        return words.get(sharedRandom.nextInt(words.size()));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String sharedRandom1Thread() {
+        return sharedRandomWord();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String sharedRandom8Threads() {
+        return sharedRandomWord();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String sharedRandom64Threads() {
+        return sharedRandomWord();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String threadLocal1Thread() {
+        return repository.getRandomWord();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String threadLocal8Threads() {
+        return repository.getRandomWord();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String threadLocal64Threads() {
+        return repository.getRandomWord();
+    }
+}
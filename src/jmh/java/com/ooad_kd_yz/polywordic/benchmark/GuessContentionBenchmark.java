@@ -0,0 +1,64 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// Measures guess throughput under contention:
+//  - sharedGame:  every benchmark thread guesses on the same game (1 game x N threads, serialized by the per-game lock)
+//  - privateGame: each benchmark thread guesses on its own game (N games x N threads, no shared lock)
+// Games are replaced once they are over so every invocation measures a real guess.
+
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(Threads.MAX)
+public class GuessContentionBenchmark {
+
+    private static final String TARGET = "SUPER";
+    private static final String GUESS = "LIGHT";
+    private static final int MAX_ATTEMPTS = 6;
+
+    @State(Scope.Benchmark)
+    public static class SharedGame {
+        final AtomicReference<GameStateContext> game = new AtomicReference<>();
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            game.set(new GameStateContext("shared", TARGET, MAX_ATTEMPTS));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PrivateGame {
+        GameStateContext game;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            game = new GameStateContext("private", TARGET, MAX_ATTEMPTS);
+        }
+    }
+
+    @Benchmark
+    public Object sharedGame(SharedGame state) {
+        GameStateContext game = state.game.get();
+        try {
+            return game.makeGuess(GUESS);
+        } catch (IllegalStateException gameOver) {
+            // only one racing thread installs the replacement game
+            state.game.compareAndSet(game, new GameStateContext("shared", TARGET, MAX_ATTEMPTS));
+            return gameOver;
+        }
+    }
+
+    @Benchmark
+    public Object privateGame(PrivateGame state) {
+        try {
+            return state.game.makeGuess(GUESS);
+        } catch (IllegalStateException gameOver) {
+            state.game = new GameStateContext("private", TARGET, MAX_ATTEMPTS);
+            return gameOver;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// Compares guess validation through the previous HashSet<String> path (toUpperCase + String hash lookup)
+// against the base-26 WordIndex bitset, over a mix of valid/invalid and upper/lower case guesses.
+// Throughput across all cores approximates the service's peak guess rate.
+
+import com.ooad_kd_yz.polywordic.repository.WordIndex;
+import com.ooad_kd_yz.polywordic.repository.WordRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class IsValidWordBenchmark {
+
+    private static final String[] GUESSES = {"APPLE", "crane", "ZZZZZ", "Light", "QXJVB", "water", "HOUSE", "abcde"};
+
+    @State(Scope.Benchmark)
+    public static class Dictionary {
+        Set<String> wordSet;
+        WordIndex wordIndex;
+
+        @Setup
+        public void setUp() {
+            List<String> words = new WordRepository().getAllWords();
+            wordSet = new HashSet<>(words);
+            wordIndex = new WordIndex(words);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        String next() {
+            return GUESSES[index++ & (GUESSES.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public boolean hashSet(Dictionary dictionary, Cursor cursor) {
+        String word = cursor.next();
+        return word != null && dictionary.wordSet.contains(word.toUpperCase()) && word.length() == 5;
+    }
+
+    @Benchmark
+    public boolean wordIndex(Dictionary dictionary, Cursor cursor) {
+        return dictionary.wordIndex.contains(cursor.next());
+    }
+}
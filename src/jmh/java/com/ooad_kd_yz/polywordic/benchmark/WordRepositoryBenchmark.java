@@ -0,0 +1,43 @@
+package com.ooad_kd_yz.polywordic.benchmark;
+
+// Cold-start cost of loading the dictionary: text parsing (WordRepository) versus
+// memory-mapping the binary dictionary (MappedWordRepository).
+
+import com.ooad_kd_yz.polywordic.repository.BinaryDictionary;
+import com.ooad_kd_yz.polywordic.repository.MappedWordRepository;
+import com.ooad_kd_yz.polywordic.repository.WordRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class WordRepositoryBenchmark {
+
+    private Path binaryDictionary;
+
+    @Setup
+    public void setUp() throws IOException {
+        binaryDictionary = Files.createTempFile("polywordic-benchmark", ".bin");
+        BinaryDictionary.write(new WordRepository().getAllWords(), binaryDictionary);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binaryDictionary);
+    }
+
+    @Benchmark
+    public Object loadTextDictionary() {
+        return new WordRepository();
+    }
+
+    @Benchmark
+    public Object loadBinaryDictionary() {
+        return new MappedWordRepository(binaryDictionary);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ooad_kd_yz.polywordic.config;
+
+// Chooses how guesses are scored. By default patterns are computed on the fly; with
+// polywordic.feedback-matrix.enabled=true the whole dictionary's target x guess table is precomputed at startup
+// (or memory-mapped from polywordic.feedback-matrix.file when a matching file exists).
+
+import com.ooad_kd_yz.polywordic.model.FeedbackMatrix;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.repository.IWordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@Configuration
+public class FeedbackEvaluatorConfig {
+    private static final Logger log = LoggerFactory.getLogger(FeedbackEvaluatorConfig.class);
+
+    @Bean
+    public IFeedbackEvaluator feedbackEvaluator(IWordRepository wordRepository,
+                                                @Value("${polywordic.feedback-matrix.enabled:false}") boolean enabled,
+                                                @Value("${polywordic.feedback-matrix.file:}") String file) {
+        if (!enabled) {
+            return IFeedbackEvaluator.COMPUTED;
+        }
+
+        List<String> words = wordRepository.getWordTable().asList();
+        Path path = file.isBlank() ? null : Path.of(file);
+
+        if (path != null && Files.exists(path)) {
+            try {
+                FeedbackMatrix matrix = FeedbackMatrix.load(path);
+                if (matrix.covers(words)) {
+                    log.info("Memory-mapped feedback matrix for {} words from {}", matrix.size(), path);
+                    return matrix;
+                }
+                log.warn("Feedback matrix file {} does not match the dictionary, rebuilding", path);
+            } catch (IOException exception) {
+                log.warn("Failed to load feedback matrix from {}, rebuilding", path, exception);
+            }
+        }
+
+        FeedbackMatrix matrix = FeedbackMatrix.build(words);
+        log.info("Built feedback matrix for {} words", matrix.size());
+
+        if (path != null) {
+            try {
+                matrix.save(path); // memory-mapped on the next startup
+            } catch (IOException exception) {
+                log.warn("Failed to save feedback matrix to {}", path, exception);
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ooad_kd_yz.polywordic.config;
+
+// Chooses how game IDs are generated (polywordic.game-id.generator):
+//  uuid - UUID-formatted IDs from SecureRandom, so game IDs cannot be guessed (default)
+//  time - 11-character base62 time + node + counter IDs, no shared lock; predictable, so anyone holding one
+//         game ID can find and play the games created around it - only for deployments that trust their clients
+// polywordic.game-id.node (0-1023) gives each instance its own time-based ID range; -1 picks one at random.
+
+import com.ooad_kd_yz.polywordic.id.IGameIdGenerator;
+import com.ooad_kd_yz.polywordic.id.TimeBasedGameIdGenerator;
+import com.ooad_kd_yz.polywordic.id.UuidGameIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GameIdConfig {
+
+    @Bean
+    public IGameIdGenerator gameIdGenerator(
+            @Value("${polywordic.game-id.generator:uuid}") String generator,
+            @Value("${polywordic.game-id.node:-1}") int node) {
+        return switch (generator.toLowerCase()) {
+            case "time" -> node < 0 ? new TimeBasedGameIdGenerator() : new TimeBasedGameIdGenerator(node);
+            case "uuid" -> new UuidGameIdGenerator();
+            default -> throw new IllegalArgumentException("Unknown game ID generator: " + generator);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.ooad_kd_yz.polywordic.config;
+
+// Chooses how target words are picked for new games (polywordic.word-selection.strategy):
+//  random   - ThreadLocalRandom, no shared state between game-creation threads (default)
+//  seeded   - reproducible sequence from polywordic.word-selection.seed, for load tests
+//  shuffled - every word once before any repeats
+
+import com.ooad_kd_yz.polywordic.repository.IWordSelectionStrategy;
+import com.ooad_kd_yz.polywordic.repository.RandomWordSelectionStrategy;
+import com.ooad_kd_yz.polywordic.repository.SeededWordSelectionStrategy;
+import com.ooad_kd_yz.polywordic.repository.ShuffledWordSelectionStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WordSelectionConfig {
+
+    @Bean
+    public IWordSelectionStrategy wordSelectionStrategy(
+            @Value("${polywordic.word-selection.strategy:random}") String strategy,
+            @Value("${polywordic.word-selection.seed:0}") long seed) {
+        return switch (strategy.toLowerCase()) {
+            case "random" -> new RandomWordSelectionStrategy();
+            case "seeded" -> new SeededWordSelectionStrategy(seed);
+            case "shuffled" -> new ShuffledWordSelectionStrategy();
+            default -> throw new IllegalArgumentException("Unknown word selection strategy: " + strategy);
+        };
+    }
+}
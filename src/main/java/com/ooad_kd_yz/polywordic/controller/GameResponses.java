@@ -0,0 +1,31 @@
+package com.ooad_kd_yz.polywordic.controller;
+
+import com.ooad_kd_yz.polywordic.service.PolywordicGameService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Small fixed response bodies (stats, deleted, error) shared by the servlet (PolywordicController) and reactive
+// (ReactivePolywordicController) controllers; game bodies are the record DTOs in the dto package.
+
+final class GameResponses {
+
+    private GameResponses() {
+    }
+
+    static Map<String, Object> stats(PolywordicGameService gameService) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("activeGames", gameService.getActiveGameCount());
+        response.put("evictedGames", gameService.getEvictedGameCount());
+        response.put("expiredGames", gameService.getExpiredGameCount());
+        return response;
+    }
+
+    static Map<String, Object> deleted() {
+        return Map.of("message", "Game deleted successfully");
+    }
+
+    static Map<String, Object> error(Throwable e) {
+        return Map.of("error", e.getMessage());
+    }
+}
@@ -1,22 +1,32 @@
 package com.ooad_kd_yz.polywordic.controller;
 
+import com.ooad_kd_yz.polywordic.dto.BatchGuessRequest;
+import com.ooad_kd_yz.polywordic.dto.BatchGuessResponse;
+import com.ooad_kd_yz.polywordic.dto.GameCreatedResponse;
+import com.ooad_kd_yz.polywordic.dto.GameStateResponse;
+import com.ooad_kd_yz.polywordic.dto.GamesCreatedResponse;
+import com.ooad_kd_yz.polywordic.dto.GuessResultResponse;
 import com.ooad_kd_yz.polywordic.service.PolywordicGameService;
 import com.ooad_kd_yz.polywordic.state.GameStateContext;
-import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 // MVC Pattern - Controller component
 // Exposes REST endpoints to the frontend (java/resources/*), delegates business logic to PolywordicGameService
+// Servlet (Spring MVC on Tomcat) stack; ReactivePolywordicController serves the same endpoints when
+// spring.main.web-application-type=reactive
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PolywordicController {
 
     private final PolywordicGameService gameService;
@@ -40,17 +50,26 @@ public class PolywordicController {
             @RequestParam(required = false, defaultValue = "EASY") String difficulty) {
         try {
             GameStateContext game = gameService.createNewGame(difficulty);
+            return ResponseEntity.ok(GameCreatedResponse.from(game, difficulty));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(GameResponses.error(e));
+        }
+    }
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("gameId", game.getGameId());
-            response.put("difficulty", difficulty.toUpperCase());
-            response.put("maxAttempts", game.getMaxAttempts());
-            response.put("remainingAttempts", game.getRemainingAttempts());
-
-            return ResponseEntity.ok(response);
+    // Create several games of one difficulty in one call
+    //  POST /api/games/new?difficulty=EASY&count=100
+    @PostMapping("/api/games/new")
+    @ResponseBody
+    public ResponseEntity<?> createNewGames(
+            @RequestParam(required = false, defaultValue = "EASY") String difficulty,
+            @RequestParam int count) {
+        try {
+            List<GameStateContext> games = gameService.createNewGames(difficulty, count);
+            return ResponseEntity.ok(GamesCreatedResponse.from(games, difficulty));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("error", e.getMessage()));
+                    .body(GameResponses.error(e));
         }
     }
 
@@ -60,26 +79,10 @@ public class PolywordicController {
     public ResponseEntity<?> getGame(@PathVariable String gameId) {
         try {
             GameStateContext game = gameService.getGame(gameId);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("gameId", game.getGameId());
-            response.put("maxAttempts", game.getMaxAttempts());
-            response.put("currentAttempt", game.getCurrentAttempt());
-            response.put("remainingAttempts", game.getRemainingAttempts());
-            response.put("gameOver", game.isGameOver());
-            response.put("won", game.isWon());
-            response.put("stateName", game.getStateName());
-            response.put("guesses", game.getGuesses());
-            response.put("letterStatuses", game.getAggregateLetterStatuses());
-
-            if (game.isGameOver()) {
-                response.put("targetWord", game.getTargetWordString()); // reveal targetWord if game is over
-            }
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(GameStateResponse.from(game));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("error", e.getMessage()));
+                    .body(GameResponses.error(e));
         }
     }
 
@@ -93,28 +96,46 @@ public class PolywordicController {
         try {
             String guess = payload.get("guess");
 
-            PolywordicWord result = gameService.makeGuess(gameId, guess);
+            GuessResult result = gameService.makeGuess(gameId, guess);
 
             GameStateContext game = gameService.getGame(gameId); // get updated game status
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("guess", result.getWord());
-            response.put("results", result.getLetters());
-            response.put("gameOver", game.isGameOver());
-            response.put("won", game.isWon());
-            response.put("stateName", game.getStateName());
-            response.put("currentAttempt", game.getCurrentAttempt());
-            response.put("remainingAttempts", game.getRemainingAttempts());
-            response.put("letterStatuses", game.getAggregateLetterStatuses());
-
-            if (game.isGameOver()) {
-                response.put("targetWord", game.getTargetWordString()); // reveal target word if game is over
-            }
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(GuessResultResponse.from(result, game));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(GameResponses.error(e));
+        }
+    }
+
+    // Make several guesses in one game, in order, stopping at the first guess that ends the game
+    //  POST /api/game/{gameId}/guesses
+    //  Body: { "guesses": ["CRANE", "LIGHT"] }
+    //  Response: { "gameId": ..., "results": [packed results], "stateName": ..., "remainingAttempts": ... }
+    @PostMapping("/api/game/{gameId}/guesses")
+    @ResponseBody
+    public ResponseEntity<?> makeGuesses(@PathVariable String gameId,
+                                         @RequestBody BatchGuessRequest payload) {
+        try {
+            int[] results = gameService.makeGuesses(gameId, payload == null ? null : payload.guesses());
+            GameStateContext game = gameService.getGame(gameId); // get updated game status
+            return ResponseEntity.ok(BatchGuessResponse.from(game, results));
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("error", e.getMessage()));
+                    .body(GameResponses.error(e));
+        }
+    }
+
+    // Make guesses in many games in one call (one response entry per game, in request order)
+    //  POST /api/games/guesses
+    //  Body: [ { "gameId": "...", "guesses": ["CRANE", "LIGHT"] }, ... ]
+    @PostMapping("/api/games/guesses")
+    @ResponseBody
+    public ResponseEntity<?> makeGuessesForGames(@RequestBody List<BatchGuessRequest> payload) {
+        try {
+            return ResponseEntity.ok(gameService.makeGuessesForGames(payload));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(GameResponses.error(e));
         }
     }
 
@@ -125,13 +146,21 @@ public class PolywordicController {
     public ResponseEntity<?> deleteGame(@PathVariable String gameId) {
         try {
             gameService.deleteGame(gameId);
-            return ResponseEntity.ok(Map.of("message", "Game deleted successfully"));
+            return ResponseEntity.ok(GameResponses.deleted());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", e.getMessage()));
+                    .body(GameResponses.error(e));
         }
     }
 
+    // Get active game storage statistics (current size and automatic removals)
+    // GET /api/games/stats
+    @GetMapping("/api/games/stats")
+    @ResponseBody
+    public ResponseEntity<?> getGameStats() {
+        return ResponseEntity.ok(GameResponses.stats(gameService));
+    }
+
     // Get all available difficulties
     // Response example: ["EASY", "MEDIUM", "HARD"]
     @GetMapping("/api/difficulties")
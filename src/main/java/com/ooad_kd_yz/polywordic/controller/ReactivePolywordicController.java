@@ -0,0 +1,175 @@
+package com.ooad_kd_yz.polywordic.controller;
+
+import com.ooad_kd_yz.polywordic.dto.BatchGuessRequest;
+import com.ooad_kd_yz.polywordic.dto.BatchGuessResponse;
+import com.ooad_kd_yz.polywordic.dto.GameCreatedResponse;
+import com.ooad_kd_yz.polywordic.dto.GameStateResponse;
+import com.ooad_kd_yz.polywordic.dto.GamesCreatedResponse;
+import com.ooad_kd_yz.polywordic.dto.GuessResultResponse;
+import com.ooad_kd_yz.polywordic.service.PolywordicGameService;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+
+// MVC Pattern - Controller component (reactive stack)
+// Same endpoints and JSON bodies as PolywordicController, served by Spring WebFlux on Netty.
+// Enabled with spring.main.web-application-type=reactive; shares PolywordicGameService with the servlet stack.
+// Reads (game state, stats) are in-memory and run directly on the Netty event loop. Anything that changes a game
+// ends in PolywordicGameService waiting for the game store's sync - an fsync with the journal store - so those
+// endpoints run on Reactor's boundedElastic scheduler instead of blocking the event loop.
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePolywordicController {
+
+    private final PolywordicGameService gameService;
+
+    @Autowired
+    public ReactivePolywordicController(PolywordicGameService gameService) {
+        this.gameService = gameService;
+    }
+
+    // route to game homepage
+    @GetMapping("/")
+    public Mono<String> index() {
+        return Mono.just("index");
+    }
+
+    // Create a new game of a specified difficulty (default to EASY is no param supplied)
+    //  POST /api/game/new?difficulty=EASY
+    @PostMapping("/api/game/new")
+    @ResponseBody
+    public Mono<ResponseEntity<Object>> createNewGame(
+            @RequestParam(required = false, defaultValue = "EASY") String difficulty) {
+        return Mono.<ResponseEntity<Object>>fromCallable(() -> {
+                    GameStateContext game = gameService.createNewGame(difficulty);
+                    return ResponseEntity.ok(GameCreatedResponse.from(game, difficulty));
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(Exception.class, e -> error(HttpStatus.BAD_REQUEST, e));
+    }
+
+    // Create several games of one difficulty in one call
+    //  POST /api/games/new?difficulty=EASY&count=100
+    @PostMapping("/api/games/new")
+    @ResponseBody
+    public Mono<ResponseEntity<Object>> createNewGames(
+            @RequestParam(required = false, defaultValue = "EASY") String difficulty,
+            @RequestParam int count) {
+        return Mono.<ResponseEntity<Object>>fromCallable(() -> {
+                    List<GameStateContext> games = gameService.createNewGames(difficulty, count);
+                    return ResponseEntity.ok(GamesCreatedResponse.from(games, difficulty));
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(Exception.class, e -> error(HttpStatus.BAD_REQUEST, e));
+    }
+
+    // Get current state of a game by ID
+    @GetMapping("/api/game/{gameId}")
+    @ResponseBody
+    public Mono<ResponseEntity<Object>> getGame(@PathVariable String gameId) {
+        return Mono.<ResponseEntity<Object>>fromCallable(() -> {
+                    GameStateContext game = gameService.getGame(gameId);
+                    return ResponseEntity.ok(GameStateResponse.from(game));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> error(HttpStatus.NOT_FOUND, e));
+    }
+
+    // Make a guess in the game
+    //  POST /api/game/{gameId}/guess
+    //  Body: { "guess": "APPLE" }
+    @PostMapping("/api/game/{gameId}/guess")
+    @ResponseBody
+    public Mono<ResponseEntity<Object>> makeGuess(@PathVariable String gameId,
+                                                  @RequestBody Mono<Map<String, String>> payload) {
+        return payload
+                .publishOn(Schedulers.boundedElastic()) // the body is read on the event loop, the guesses aren't
+                .<ResponseEntity<Object>>map(body -> {
+                    GuessResult result = gameService.makeGuess(gameId, body.get("guess"));
+                    GameStateContext game = gameService.getGame(gameId); // get updated game status
+                    return ResponseEntity.ok(GuessResultResponse.from(result, game));
+                })
+                .onErrorResume(e -> e instanceof IllegalArgumentException || e instanceof IllegalStateException,
+                        e -> error(HttpStatus.BAD_REQUEST, e));
+    }
+
+    // Make several guesses in one game, in order, stopping at the first guess that ends the game
+    //  POST /api/game/{gameId}/guesses
+    //  Body: { "guesses": ["CRANE", "LIGHT"] }
+    @PostMapping("/api/game/{gameId}/guesses")
+    @ResponseBody
+    public Mono<ResponseEntity<Object>> makeGuesses(@PathVariable String gameId,
+                                                    @RequestBody Mono<BatchGuessRequest> payload) {
+        return payload
+                .publishOn(Schedulers.boundedElastic())
+                .<ResponseEntity<Object>>map(body -> {
+                    int[] results = gameService.makeGuesses(gameId, body.guesses());
+                    GameStateContext game = gameService.getGame(gameId); // get updated game status
+                    return ResponseEntity.ok(BatchGuessResponse.from(game, results));
+                })
+                .switchIfEmpty(missingBody()) // a JSON null body decodes to an empty Mono
+                .onErrorResume(e -> e instanceof IllegalArgumentException || e instanceof IllegalStateException,
+                        e -> error(HttpStatus.BAD_REQUEST, e));
+    }
+
+    // Make guesses in many games in one call (one response entry per game, in request order)
+    //  POST /api/games/guesses
+    //  Body: [ { "gameId": "...", "guesses": ["CRANE", "LIGHT"] }, ... ]
+    @PostMapping("/api/games/guesses")
+    @ResponseBody
+    public Mono<ResponseEntity<Object>> makeGuessesForGames(@RequestBody Mono<List<BatchGuessRequest>> payload) {
+        return payload
+                .publishOn(Schedulers.boundedElastic())
+                .<ResponseEntity<Object>>map(body -> ResponseEntity.ok(gameService.makeGuessesForGames(body)))
+                .switchIfEmpty(missingBody())
+                .onErrorResume(IllegalArgumentException.class, e -> error(HttpStatus.BAD_REQUEST, e));
+    }
+
+    // Delete a game by gameId
+    // DELETE /api/game/{gameId}
+    @DeleteMapping("/api/game/{gameId}")
+    @ResponseBody
+    public Mono<ResponseEntity<Object>> deleteGame(@PathVariable String gameId) {
+        return Mono.<ResponseEntity<Object>>fromCallable(() -> {
+                    gameService.deleteGame(gameId);
+                    return ResponseEntity.ok(GameResponses.deleted());
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(Exception.class, e -> error(HttpStatus.INTERNAL_SERVER_ERROR, e));
+    }
+
+    // Get active game storage statistics (current size and automatic removals)
+    // GET /api/games/stats
+    @GetMapping("/api/games/stats")
+    @ResponseBody
+    public Mono<ResponseEntity<Object>> getGameStats() {
+        return Mono.<ResponseEntity<Object>>fromCallable(() -> ResponseEntity.ok(GameResponses.stats(gameService)));
+    }
+
+    // Get all available difficulties
+    // Response example: ["EASY", "MEDIUM", "HARD"]
+    @GetMapping("/api/difficulties")
+    @ResponseBody
+    public Mono<ResponseEntity<Object>> getAvailableDifficulties() {
+        return Mono.<ResponseEntity<Object>>fromCallable(() -> ResponseEntity.ok(gameService.getAvailableDifficulties()));
+    }
+
+    private static Mono<ResponseEntity<Object>> missingBody() {
+        return Mono.defer(() -> error(HttpStatus.BAD_REQUEST, new IllegalArgumentException("Missing request body")));
+    }
+
+    private static Mono<ResponseEntity<Object>> error(HttpStatus status, Throwable e) {
+        return Mono.just(ResponseEntity.status(status).body(GameResponses.error(e)));
+    }
+}
@@ -0,0 +1,10 @@
+package com.ooad_kd_yz.polywordic.dto;
+
+import java.util.List;
+
+// Request body for the batch guess endpoints:
+//   POST /api/game/{gameId}/guesses   {"guesses": ["CRANE", "LIGHT"]}                  (gameId taken from the path)
+//   POST /api/games/guesses           [{"gameId": "...", "guesses": ["CRANE"]}, ...]
+
+public record BatchGuessRequest(String gameId, List<String> guesses) {
+}
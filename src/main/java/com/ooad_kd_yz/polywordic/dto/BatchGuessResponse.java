@@ -0,0 +1,26 @@
+package com.ooad_kd_yz.polywordic.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+
+// Response entry for one game of a batch guess request.
+// results holds one packed int per processed guess, in request order:
+//   0..242  feedback pattern code - base-3 digit per position, position 0 least significant
+//           (0 = NOT_IN_WORD, 1 = INCORRECT_POSITION, 2 = CORRECT_POSITION; 242 = solved)
+//   -1      guess rejected (not a 5-letter dictionary word); doesn't use an attempt
+// Guesses after the one that ended the game are not processed, so results can be shorter than the request.
+// For a game that couldn't be played (e.g. unknown gameId) only gameId and error are present.
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchGuessResponse(String gameId, int[] results, String stateName, Integer remainingAttempts,
+                                 String targetWord, String error) {
+
+    public static BatchGuessResponse from(GameStateContext game, int[] results) {
+        return new BatchGuessResponse(game.getGameId(), results, game.getStateName(), game.getRemainingAttempts(),
+                game.isGameOver() ? game.getTargetWordString() : null, null); // reveal target word if game is over
+    }
+
+    public static BatchGuessResponse error(String gameId, String message) {
+        return new BatchGuessResponse(gameId, null, null, null, null, message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ooad_kd_yz.polywordic.dto;
+
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+
+// Response body for POST /api/game/new
+
+public record GameCreatedResponse(String gameId, String difficulty, int maxAttempts, int remainingAttempts) {
+
+    public static GameCreatedResponse from(GameStateContext game, String difficulty) {
+        return new GameCreatedResponse(game.getGameId(), difficulty.toUpperCase(), game.getMaxAttempts(),
+                game.getRemainingAttempts());
+    }
+}
@@ -0,0 +1,25 @@
+package com.ooad_kd_yz.polywordic.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
+import com.ooad_kd_yz.polywordic.model.KeyboardState;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+
+import java.util.List;
+
+// Response body for GET /api/game/{gameId}
+// guesses and letterStatuses use the hand-written GuessResult / KeyboardState serializers;
+// targetWord is only present (non-null) once the game is over.
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GameStateResponse(String gameId, int maxAttempts, int currentAttempt, int remainingAttempts,
+                                boolean gameOver, boolean won, String stateName, List<GuessResult> guesses,
+                                KeyboardState letterStatuses, String targetWord) {
+
+    public static GameStateResponse from(GameStateContext game) {
+        boolean gameOver = game.isGameOver();
+        return new GameStateResponse(game.getGameId(), game.getMaxAttempts(), game.getCurrentAttempt(),
+                game.getRemainingAttempts(), gameOver, game.isWon(), game.getStateName(), game.getGuessResults(),
+                game.getKeyboardState(), gameOver ? game.getTargetWordString() : null); // reveal targetWord if game is over
+    }
+}
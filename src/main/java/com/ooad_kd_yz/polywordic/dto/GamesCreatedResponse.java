@@ -0,0 +1,18 @@
+package com.ooad_kd_yz.polywordic.dto;
+
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+
+import java.util.List;
+
+// Response body for POST /api/games/new (bulk creation); all games share one difficulty and attempt limit
+
+public record GamesCreatedResponse(String difficulty, int maxAttempts, List<String> gameIds) {
+
+    public static GamesCreatedResponse from(List<GameStateContext> games, String difficulty) {
+        String[] gameIds = new String[games.size()];
+        for (int i = 0; i < gameIds.length; i++) {
+            gameIds[i] = games.get(i).getGameId();
+        }
+        return new GamesCreatedResponse(difficulty.toUpperCase(), games.get(0).getMaxAttempts(), List.of(gameIds));
+    }
+}
@@ -0,0 +1,25 @@
+package com.ooad_kd_yz.polywordic.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
+import com.ooad_kd_yz.polywordic.model.KeyboardState;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+
+// Response body for POST /api/game/{gameId}/guess
+// results is written as the guess's letter objects from pre-encoded fragments (PolywordicLetter serializer);
+// targetWord is only present (non-null) once the game is over.
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GuessResultResponse(String guess, @JsonSerialize(using = GuessResult.LettersSerializer.class) GuessResult results,
+                                  boolean gameOver, boolean won,
+                                  String stateName, int currentAttempt, int remainingAttempts,
+                                  KeyboardState letterStatuses, String targetWord) {
+
+    public static GuessResultResponse from(GuessResult result, GameStateContext game) {
+        boolean gameOver = game.isGameOver();
+        return new GuessResultResponse(result.word(), result, gameOver, game.isWon(),
+                game.getStateName(), game.getCurrentAttempt(), game.getRemainingAttempts(), game.getKeyboardState(),
+                gameOver ? game.getTargetWordString() : null); // reveal target word if game is over
+    }
+}
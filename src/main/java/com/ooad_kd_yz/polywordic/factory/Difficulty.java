@@ -0,0 +1,24 @@
+package com.ooad_kd_yz.polywordic.factory;
+
+// Difficulty levels a game can be created with; each has one IPolywordicGameFactory (see GameFactoryRegistry).
+// A new difficulty is a new constant here plus a @Component factory for it.
+
+public enum Difficulty {
+    EASY,
+    MEDIUM,
+    HARD;
+
+    private static final Difficulty[] VALUES = values(); // values() clones its array on every call
+
+    // Case-insensitive match against the constant names, without allocating; null if text names no difficulty
+    public static Difficulty parse(String text) {
+        if (text != null) {
+            for (Difficulty difficulty : VALUES) {
+                if (difficulty.name().equalsIgnoreCase(text)) {
+                    return difficulty;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ooad_kd_yz.polywordic.factory;
+
+// Maps each Difficulty to its IPolywordicGameFactory, in an array indexed by ordinal so resolving a request's
+// difficulty is a parse and an array read (no toUpperCase copy or String-keyed HashMap lookup).
+// Spring builds it from every IPolywordicGameFactory @Component it scans, so a new difficulty only needs its factory;
+// code outside Spring uses builtIn().
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class GameFactoryRegistry {
+    public static final Difficulty DEFAULT_DIFFICULTY = Difficulty.EASY; // used for missing or unknown difficulties
+
+    private final IPolywordicGameFactory[] factories = new IPolywordicGameFactory[Difficulty.values().length];
+    private final Set<String> difficultyNames; // registered difficulties, in Difficulty order
+
+    @Autowired
+    public GameFactoryRegistry(List<IPolywordicGameFactory> factories) {
+        for (IPolywordicGameFactory factory : factories) {
+            int index = factory.getDifficultyLevel().ordinal();
+            if (this.factories[index] != null) {
+                throw new IllegalArgumentException("Two game factories for difficulty " + factory.getDifficultyLevel());
+            }
+            this.factories[index] = factory;
+        }
+        if (this.factories[DEFAULT_DIFFICULTY.ordinal()] == null) {
+            throw new IllegalArgumentException("No game factory for the default difficulty " + DEFAULT_DIFFICULTY);
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (IPolywordicGameFactory factory : this.factories) {
+            if (factory != null) {
+                names.add(factory.getDifficulty());
+            }
+        }
+        this.difficultyNames = Collections.unmodifiableSet(names);
+    }
+
+    // The EASY, MEDIUM and HARD factories
+    public static GameFactoryRegistry builtIn() {
+        return new GameFactoryRegistry(List.of(new EasyPolywordicGameFactory(), new MediumPolywordicGameFactory(),
+                new HardPolywordicGameFactory()));
+    }
+
+    // The factory for difficulty (case-insensitive), or null if it names no registered difficulty
+    public IPolywordicGameFactory find(String difficulty) {
+        Difficulty level = Difficulty.parse(difficulty);
+        return level == null ? null : factories[level.ordinal()];
+    }
+
+    // The factory for difficulty, falling back to DEFAULT_DIFFICULTY's
+    public IPolywordicGameFactory resolve(String difficulty) {
+        IPolywordicGameFactory factory = find(difficulty);
+        return factory != null ? factory : factories[DEFAULT_DIFFICULTY.ordinal()];
+    }
+
+    public Set<String> getDifficulties() {
+        return difficultyNames;
+    }
+}
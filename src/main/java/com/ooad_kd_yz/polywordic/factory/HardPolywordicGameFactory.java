@@ -1,16 +1,19 @@
 package com.ooad_kd_yz.polywordic.factory;
 
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
 import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.springframework.stereotype.Component;
 
 // Factory Method Pattern - Concrete Creator for creating Hard Games (4 guess attempts)
 
+@Component
 public class HardPolywordicGameFactory implements IPolywordicGameFactory {
 
     private static final int MAX_ATTEMPTS = 4;
 
     @Override
-    public GameStateContext createGame(String gameId, String targetWord) {
-        return new GameStateContext(gameId, targetWord, MAX_ATTEMPTS);
+    public GameStateContext createGame(String gameId, String targetWord, IFeedbackEvaluator feedbackEvaluator) {
+        return new GameStateContext(gameId, targetWord, MAX_ATTEMPTS, feedbackEvaluator);
     }
 
     @Override
@@ -19,7 +22,7 @@ public class HardPolywordicGameFactory implements IPolywordicGameFactory {
     }
 
     @Override
-    public String getDifficulty() {
-        return "HARD";
+    public Difficulty getDifficultyLevel() {
+        return Difficulty.HARD;
     }
 }
@@ -1,13 +1,24 @@
 package com.ooad_kd_yz.polywordic.factory;
 
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
 import com.ooad_kd_yz.polywordic.state.GameStateContext;
 
 // Factory Pattern - Abstract Factory
 // Defines the interface (Abstract Creator Class) that all concrete factories must implement
 // (i.e. methods related to instantiating a new Polywordic game)
+// Implementations annotated @Component are picked up by GameFactoryRegistry, one per Difficulty.
 
 public interface IPolywordicGameFactory {
-    GameStateContext createGame(String gameId, String targetWord); // factory method
+    GameStateContext createGame(String gameId, String targetWord, IFeedbackEvaluator feedbackEvaluator); // factory method
+
+    default GameStateContext createGame(String gameId, String targetWord) {
+        return createGame(gameId, targetWord, IFeedbackEvaluator.COMPUTED);
+    }
+
     int getMaxAttempts();
-    String getDifficulty();
+    Difficulty getDifficultyLevel();
+
+    default String getDifficulty() {
+        return getDifficultyLevel().name();
+    }
 }
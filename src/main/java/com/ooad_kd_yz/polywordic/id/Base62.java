@@ -0,0 +1,47 @@
+package com.ooad_kd_yz.polywordic.id;
+
+// Fixed-width base62 encoding of non-negative longs (0-9, A-Z, a-z).
+// The digits are in ASCII order and every value is padded to 11 characters,
+// so comparing two encoded strings gives the same order as comparing the values.
+
+final class Base62 {
+    static final int LENGTH = 11; // 62^11 > 2^63
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        java.util.Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < DIGITS.length; i++) {
+            VALUES[DIGITS[i]] = (byte) i;
+        }
+    }
+
+    private Base62() {
+    }
+
+    static String encode(long value) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = DIGITS[(int) (value % 62)];
+            value /= 62;
+        }
+        return new String(chars);
+    }
+
+    // Returns -1 unless text is exactly LENGTH base62 digits encoding a value <= Long.MAX_VALUE
+    static long decode(String text) {
+        if (text == null || text.length() != LENGTH) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = text.charAt(i);
+            int digit = c < 128 ? VALUES[c] : -1;
+            if (digit < 0 || value > (Long.MAX_VALUE - digit) / 62) {
+                return -1;
+            }
+            value = value * 62 + digit;
+        }
+        return value;
+    }
+}
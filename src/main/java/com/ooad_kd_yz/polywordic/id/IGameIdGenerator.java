@@ -0,0 +1,18 @@
+package com.ooad_kd_yz.polywordic.id;
+
+// Strategy for generating game IDs.
+// A game ID has two forms: a non-negative 64-bit key, which is what the game store is keyed by, and the string
+// clients see in URLs and response bodies. format and parse convert between them; parse(format(id)) == id.
+// Implementations must be safe to call concurrently from multiple request threads.
+// The string form is the only thing that stops one client from reading or playing another's game, so each
+// implementation says whether its IDs can be guessed.
+
+public interface IGameIdGenerator {
+    long INVALID_ID = -1; // parse result for a string that isn't an ID from this generator
+
+    long nextId(); // non-negative, unique among the IDs handed out by this generator
+
+    String format(long id);
+
+    long parse(String gameId); // returns INVALID_ID for null or malformed input, never throws
+}
@@ -0,0 +1,66 @@
+package com.ooad_kd_yz.polywordic.id;
+
+// Default generator: 63-bit IDs laid out as [41-bit milliseconds since 2025-01-01 | 12-bit counter | 10-bit node],
+// rendered as 11 base62 characters (e.g. "0Ab3kLm9xQz").
+//  - one CAS on a single AtomicLong per ID, no locks, no SecureRandom
+//  - up to 4096 IDs per millisecond per node; a burst beyond that borrows from the next millisecond instead of waiting
+//  - IDs keep increasing if the wall clock steps backwards while running, and sort by creation time
+//  - node (0-1023) keeps IDs from several instances apart; it is picked at random when not configured
+// IDs are sequential and therefore guessable; use UuidGameIdGenerator if game IDs must not be predictable.
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TimeBasedGameIdGenerator implements IGameIdGenerator {
+    static final long EPOCH_MILLIS = 1_735_689_600_000L; // 2025-01-01T00:00:00Z, 41 bits of millis lasts until 2094
+    static final int NODE_BITS = 10;
+    static final int COUNTER_BITS = 12;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private final int node;
+    private final LongSupplier clock;
+    private final AtomicLong lastTick = new AtomicLong(); // (millis since epoch << COUNTER_BITS) | counter
+
+    public TimeBasedGameIdGenerator() {
+        this(new SecureRandom().nextInt(MAX_NODE + 1));
+    }
+
+    public TimeBasedGameIdGenerator(int node) {
+        this(node, System::currentTimeMillis);
+    }
+
+    TimeBasedGameIdGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("Node must be between 0 and " + MAX_NODE + ": " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << COUNTER_BITS;
+        long prev;
+        long next;
+        do {
+            prev = lastTick.get();
+            next = Math.max(prev + 1, now);
+        } while (!lastTick.compareAndSet(prev, next));
+        return (next << NODE_BITS) | node;
+    }
+
+    @Override
+    public String format(long id) {
+        return Base62.encode(id);
+    }
+
+    @Override
+    public long parse(String gameId) {
+        return Base62.decode(gameId); // -1 == INVALID_ID
+    }
+
+    public int getNode() {
+        return node;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ooad_kd_yz.polywordic.metrics;
+
+// Records game events for monitoring. Called on every create/guess, so implementations must be
+// cheap and must not allocate per call (meters are resolved up front, not looked up by tags per event).
+
+public interface IGameMetrics {
+    // Used when no metrics backend is configured (e.g. unit tests, benchmarks)
+    IGameMetrics NOOP = new IGameMetrics() {};
+
+    default void gameCreated(String difficulty) {}
+
+    // guess passed validation and was scored; durationNanos covers validation + evaluation
+    default void guessAccepted(long durationNanos) {}
+
+    // guess rejected because the word is not in the dictionary
+    default void guessInvalidWord() {}
+
+    // guess rejected for any other reason (bad length, unknown game, game already over)
+    default void guessRejected() {}
+
+    default void gameFinished(boolean won) {}
+}
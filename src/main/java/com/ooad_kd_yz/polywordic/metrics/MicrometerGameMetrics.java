@@ -0,0 +1,120 @@
+package com.ooad_kd_yz.polywordic.metrics;
+
+import com.ooad_kd_yz.polywordic.factory.Difficulty;
+import com.ooad_kd_yz.polywordic.store.IGameStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// Micrometer-backed game metrics, exported by Spring Boot Actuator (/actuator/prometheus).
+//
+//   polywordic.games.created{difficulty}     counter  - games created per difficulty
+//   polywordic.guesses{outcome}              counter  - accepted / invalid_word / rejected (rate() = guesses per second)
+//   polywordic.guess.latency                 timer    - accepted guess latency, with percentile histogram buckets
+//   polywordic.games.finished{outcome}       counter  - won / lost (win/loss ratio)
+//   polywordic.games.active                  gauge    - games currently held by the game store
+//   polywordic.games.removed{cause}          counter  - games evicted (capacity) / expired (idle timeout)
+//
+// Every meter is registered up front and held in a field, so recording is a plain increment with no tag
+// or meter lookup. Difficulties not known at startup are registered once on first use and then cached.
+
+@Component
+public class MicrometerGameMetrics implements IGameMetrics {
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, Counter> gamesCreated = new ConcurrentHashMap<>();
+    private final Counter guessesAccepted;
+    private final Counter guessesInvalidWord;
+    private final Counter guessesRejected;
+    private final Timer guessLatency;
+    private final Counter gamesWon;
+    private final Counter gamesLost;
+
+    public MicrometerGameMetrics(MeterRegistry registry, IGameStore gameStore) {
+        this.registry = registry;
+
+        for (Difficulty difficulty : Difficulty.values()) {
+            gamesCreated.put(difficulty.name(), createdCounter(difficulty.name()));
+        }
+
+        this.guessesAccepted = guessCounter("accepted");
+        this.guessesInvalidWord = guessCounter("invalid_word");
+        this.guessesRejected = guessCounter("rejected");
+        this.guessLatency = Timer.builder("polywordic.guess.latency")
+                .description("Time to validate and score an accepted guess")
+                .publishPercentileHistogram()
+                .register(registry);
+
+        this.gamesWon = finishedCounter("won");
+        this.gamesLost = finishedCounter("lost");
+
+        Gauge.builder("polywordic.games.active", gameStore, IGameStore::size)
+                .description("Games currently held by the game store")
+                .register(registry);
+        FunctionCounter.builder("polywordic.games.removed", gameStore, IGameStore::getEvictedCount)
+                .description("Games removed automatically by the game store")
+                .tag("cause", "evicted")
+                .register(registry);
+        FunctionCounter.builder("polywordic.games.removed", gameStore, IGameStore::getExpiredCount)
+                .description("Games removed automatically by the game store")
+                .tag("cause", "expired")
+                .register(registry);
+    }
+
+    private Counter createdCounter(String difficulty) {
+        return Counter.builder("polywordic.games.created")
+                .description("Games created")
+                .tag("difficulty", difficulty)
+                .register(registry);
+    }
+
+    private Counter guessCounter(String outcome) {
+        return Counter.builder("polywordic.guesses")
+                .description("Guesses submitted")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private Counter finishedCounter(String outcome) {
+        return Counter.builder("polywordic.games.finished")
+                .description("Games that reached a terminal state")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    @Override
+    public void gameCreated(String difficulty) {
+        Counter counter = gamesCreated.get(difficulty);
+        if (counter == null) {
+            counter = gamesCreated.computeIfAbsent(difficulty, this::createdCounter);
+        }
+        counter.increment();
+    }
+
+    @Override
+    public void guessAccepted(long durationNanos) {
+        guessesAccepted.increment();
+        guessLatency.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void guessInvalidWord() {
+        guessesInvalidWord.increment();
+    }
+
+    @Override
+    public void guessRejected() {
+        guessesRejected.increment();
+    }
+
+    @Override
+    public void gameFinished(boolean won) {
+        (won ? gamesWon : gamesLost).increment();
+    }
+}
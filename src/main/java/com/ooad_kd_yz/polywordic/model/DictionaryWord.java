@@ -0,0 +1,48 @@
+package com.ooad_kd_yz.polywordic.model;
+
+// Flyweight Pattern - Intrinsic State
+// An immutable dictionary word: its upper case letters and WordCodec code. The word repository creates one per
+// dictionary entry (IWordRepository.lookup) and hands out that same instance to every guess of the word, so a
+// validated guess is just a lookup; anything that varies per guess (the feedback pattern) lives in a GuessResult.
+// rank is the word's index among its dictionary's distinct words in code order - its row/column in a FeedbackMatrix
+// built for that dictionary - so a validated guess is scored without searching for it again.
+
+public record DictionaryWord(String word, int code, int rank) {
+    public static final int NO_RANK = -1; // rank of a word created outside a dictionary
+
+    public DictionaryWord {
+        if (code < 0 || code >= WordCodec.CODE_SPACE || !WordCodec.decode(code).equals(word)) {
+            throw new IllegalArgumentException("Not an upper case 5-letter A-Z word with code " + code + ": " + word);
+        }
+        if (rank < NO_RANK) {
+            throw new IllegalArgumentException("Invalid dictionary rank " + rank + ": " + word);
+        }
+    }
+
+    public DictionaryWord(String word, int code) {
+        this(word, code, NO_RANK);
+    }
+
+    // Unshared instance for a word outside any dictionary (e.g. in tests); dictionary words come from the repository
+    public static DictionaryWord of(String word) {
+        int code = WordCodec.encode(word);
+        if (code < 0) {
+            throw new IllegalArgumentException("Word must be exactly 5 letters A-Z: " + word);
+        }
+        return new DictionaryWord(WordCodec.decode(code), code);
+    }
+
+    // Unshared instance for a WordCodec code (e.g. a guess rebuilt from a game's packed history)
+    public static DictionaryWord decode(int code) {
+        return new DictionaryWord(WordCodec.decode(code), code);
+    }
+
+    public char letterAt(int position) {
+        return WordCodec.letterAt(code, position);
+    }
+
+    @Override
+    public String toString() {
+        return word;
+    }
+}
@@ -0,0 +1,169 @@
+package com.ooad_kd_yz.polywordic.model;
+
+// Precomputed target x guess feedback table for a fixed dictionary, so scoring a guess is a single byte lookup.
+// Words are kept sorted by their WordCodec code; row t / column g of the table holds the pattern code for
+// target t and guess g. The full 14.8k-word dictionary needs ~220 MB, so the table is either built on the heap
+// in parallel (fork-join) or memory-mapped from a file written by a previous run.
+// Guesses or targets outside the dictionary fall back to computing the pattern on the fly.
+// Games resolve their target's row once (rankOf) and dictionary guesses carry their column (DictionaryWord.rank), so
+// scoring a game's guess is one table read; evaluate(String, String) searches for both indexes instead.
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+public final class FeedbackMatrix implements IFeedbackEvaluator {
+    private static final int MAGIC = 0x50574D31; // "PWM1"
+    private static final int MAX_WORDS = 46_340; // largest n with n * n <= Integer.MAX_VALUE
+
+    private final int[] wordCodes; // sorted, distinct
+    private final ByteBuffer patterns; // row-major pattern codes (read as unsigned bytes)
+
+    private FeedbackMatrix(int[] wordCodes, ByteBuffer patterns) {
+        this.wordCodes = wordCodes;
+        this.patterns = patterns;
+    }
+
+    // Builds the table on the heap, computing rows in parallel on the common fork-join pool
+    public static FeedbackMatrix build(Collection<String> words) {
+        int[] codes = sortedCodes(words);
+        int size = codes.length;
+        String[] sortedWords = new String[size];
+        for (int i = 0; i < size; i++) {
+            sortedWords[i] = WordCodec.decode(codes[i]);
+        }
+
+        byte[] table = new byte[size * size];
+        IntStream.range(0, size).parallel().forEach(target -> {
+            int rowStart = target * size;
+            for (int guess = 0; guess < size; guess++) {
+                table[rowStart + guess] = (byte) GuessEvaluator.evaluate(sortedWords[target], sortedWords[guess]);
+            }
+        });
+        return new FeedbackMatrix(codes, ByteBuffer.wrap(table));
+    }
+
+    // Memory-maps a table previously written by save(); the OS pages it in lazily and shares it across processes
+    public static FeedbackMatrix load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a feedback matrix file: " + file);
+            }
+            int size = header.getInt();
+            if (size < 0 || size > MAX_WORDS) {
+                throw new IOException("Corrupt feedback matrix header: " + file);
+            }
+
+            long tableOffset = (long) (2 + size) * Integer.BYTES;
+            if (channel.size() != tableOffset + (long) size * size) {
+                throw new IOException("Truncated feedback matrix file: " + file);
+            }
+
+            ByteBuffer codeBuffer = ByteBuffer.allocate(size * Integer.BYTES);
+            readFully(channel, codeBuffer, 2 * Integer.BYTES);
+            codeBuffer.flip();
+            int[] codes = new int[size];
+            codeBuffer.asIntBuffer().get(codes);
+
+            ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, tableOffset, (long) size * size);
+            return new FeedbackMatrix(codes, table); // mapping stays valid after the channel is closed
+        }
+    }
+
+    public void save(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate((2 + wordCodes.length) * Integer.BYTES);
+            header.putInt(MAGIC).putInt(wordCodes.length);
+            header.asIntBuffer().put(wordCodes);
+            header.rewind();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+
+            ByteBuffer table = patterns.duplicate();
+            table.rewind();
+            while (table.hasRemaining()) {
+                channel.write(table);
+            }
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of feedback matrix file");
+            }
+        }
+    }
+
+    private static int[] sortedCodes(Collection<String> words) {
+        int[] codes = words.stream()
+                .mapToInt(WordCodec::encode)
+                .filter(code -> code >= 0)
+                .sorted()
+                .distinct()
+                .toArray();
+        if (codes.length > MAX_WORDS) {
+            throw new IllegalArgumentException("Too many words for a feedback matrix: " + codes.length);
+        }
+        return codes;
+    }
+
+    // True if this table was built for exactly the given dictionary
+    public boolean covers(Collection<String> words) {
+        return Arrays.equals(wordCodes, sortedCodes(words));
+    }
+
+    public int size() {
+        return wordCodes.length;
+    }
+
+    // Returns the row/column index of word, or -1 if word isn't in the table
+    public int indexOf(String word) {
+        int code = WordCodec.encode(word);
+        if (code < 0) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(wordCodes, code);
+        return index >= 0 ? index : -1;
+    }
+
+    public FeedbackPattern lookup(int targetIndex, int guessIndex) {
+        return FeedbackPattern.of(patterns.get(targetIndex * wordCodes.length + guessIndex) & 0xFF);
+    }
+
+    @Override
+    public int rankOf(String word) {
+        return indexOf(word);
+    }
+
+    @Override
+    public FeedbackPattern evaluate(String target, int targetRank, DictionaryWord guess) {
+        int guessRank = guess.rank();
+        // the code check guards against a guess ranked in some other dictionary
+        if (targetRank >= 0 && guessRank >= 0 && guessRank < wordCodes.length && wordCodes[guessRank] == guess.code()) {
+            return lookup(targetRank, guessRank);
+        }
+        return evaluate(target, guess.word());
+    }
+
+    @Override
+    public FeedbackPattern evaluate(String target, String guess) {
+        int targetIndex = indexOf(target);
+        int guessIndex = indexOf(guess);
+        if (targetIndex < 0 || guessIndex < 0) {
+            return FeedbackPattern.evaluate(target, guess);
+        }
+        return lookup(targetIndex, guessIndex);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ooad_kd_yz.polywordic.model;
+
+// Immutable result of evaluating one guess: the status of each of the 5 letters, packed into a single base-3 int (0..242).
+// All 243 possible patterns are created once up front, so patterns are compared by reference, never allocated per guess,
+// and their status list / display string are precomputed. Serializes to JSON as its int code.
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class FeedbackPattern {
+    private static final FeedbackPattern[] PATTERNS = new FeedbackPattern[GuessEvaluator.PATTERN_COUNT];
+
+    static {
+        for (int code = 0; code < PATTERNS.length; code++) {
+            PATTERNS[code] = new FeedbackPattern(code);
+        }
+    }
+
+    public static final FeedbackPattern ALL_CORRECT = PATTERNS[GuessEvaluator.ALL_CORRECT];
+
+    private final int code;
+    private final List<LetterStatus> statuses;
+    private final String display; // e.g. "GY--G": G = correct position, Y = incorrect position, - = not in word
+
+    private FeedbackPattern(int code) {
+        this.code = code;
+
+        List<LetterStatus> letterStatuses = new ArrayList<>(GuessEvaluator.WORD_LENGTH);
+        StringBuilder builder = new StringBuilder(GuessEvaluator.WORD_LENGTH);
+        for (int i = 0; i < GuessEvaluator.WORD_LENGTH; i++) {
+            LetterStatus status = GuessEvaluator.statusAt(code, i);
+            letterStatuses.add(status);
+            builder.append(switch (status) {
+                case CORRECT_POSITION -> 'G';
+                case INCORRECT_POSITION -> 'Y';
+                default -> '-';
+            });
+        }
+        this.statuses = Collections.unmodifiableList(letterStatuses);
+        this.display = builder.toString();
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static FeedbackPattern of(int code) {
+        if (code < 0 || code >= PATTERNS.length) {
+            throw new IllegalArgumentException("Invalid feedback pattern code: " + code);
+        }
+        return PATTERNS[code];
+    }
+
+    // Evaluates guess against target (both upper case 5-letter words) without allocating
+    public static FeedbackPattern evaluate(CharSequence target, CharSequence guess) {
+        return PATTERNS[GuessEvaluator.evaluate(target, guess)];
+    }
+
+    @JsonValue
+    public int getCode() {
+        return code;
+    }
+
+    public LetterStatus statusAt(int position) {
+        return statuses.get(position);
+    }
+
+    public List<LetterStatus> getStatuses() {
+        return statuses;
+    }
+
+    public boolean isSolved() {
+        return this == ALL_CORRECT;
+    }
+
+    @Override
+    public String toString() {
+        return display;
+    }
+
+    // Instances are canonical (one per code), so identity equality is value equality
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return code;
+    }
+}
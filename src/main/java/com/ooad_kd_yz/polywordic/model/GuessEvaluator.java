@@ -0,0 +1,76 @@
+package com.ooad_kd_yz.polywordic.model;
+
+// Allocation-free Polywordic guess evaluation.
+// Works directly on the characters of the target and guess words and returns the result as a packed base-3 int:
+// digit i (least significant first) holds the status of letter i (0 = NOT_IN_WORD, 1 = INCORRECT_POSITION, 2 = CORRECT_POSITION),
+// so every possible 5-letter result fits in 0..242.
+// Instead of a letter frequency map, duplicate letters are handled by counting matches directly
+// (a letter is INCORRECT_POSITION only while the target still has unmatched copies of it).
+
+public final class GuessEvaluator {
+    public static final int WORD_LENGTH = 5;
+    public static final int PATTERN_COUNT = 243; // 3^5 possible results
+    public static final int ALL_CORRECT = PATTERN_COUNT - 1; // every digit is CORRECT_POSITION
+
+    static final int NOT_IN_WORD = 0;
+    static final int INCORRECT_POSITION = 1;
+    static final int CORRECT_POSITION = 2;
+
+    private static final int[] POWERS_OF_THREE = {1, 3, 9, 27, 81};
+    private static final LetterStatus[] STATUS_BY_DIGIT = {
+            LetterStatus.NOT_IN_WORD, LetterStatus.INCORRECT_POSITION, LetterStatus.CORRECT_POSITION
+    };
+
+    private GuessEvaluator() {}
+
+    // Evaluates guess against target (both 5 letters, same case) and returns the packed result
+    public static int evaluate(CharSequence target, CharSequence guess) {
+        // First pass: mark correct positions in a bitmask
+        int correctMask = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if (guess.charAt(i) == target.charAt(i)) {
+                correctMask |= 1 << i;
+            }
+        }
+
+        // Second pass: letters not in correct position are present only if the target has
+        // more unmatched copies of that letter than earlier guess positions already claimed
+        int pattern = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if ((correctMask & (1 << i)) != 0) {
+                pattern += CORRECT_POSITION * POWERS_OF_THREE[i];
+                continue;
+            }
+
+            char letter = guess.charAt(i);
+            int unmatchedInTarget = 0;
+            for (int j = 0; j < WORD_LENGTH; j++) {
+                if ((correctMask & (1 << j)) == 0 && target.charAt(j) == letter) {
+                    unmatchedInTarget++;
+                }
+            }
+            if (unmatchedInTarget == 0) {
+                continue; // NOT_IN_WORD contributes 0
+            }
+
+            int claimedEarlier = 0;
+            for (int k = 0; k < i; k++) {
+                if ((correctMask & (1 << k)) == 0 && guess.charAt(k) == letter) {
+                    claimedEarlier++;
+                }
+            }
+            if (claimedEarlier < unmatchedInTarget) {
+                pattern += INCORRECT_POSITION * POWERS_OF_THREE[i];
+            }
+        }
+        return pattern;
+    }
+
+    // Decodes the status of a single letter position from a packed result
+    public static LetterStatus statusAt(int pattern, int position) {
+        if (position < 0 || position >= WORD_LENGTH) {
+            throw new IndexOutOfBoundsException("Position must be between 0 and " + (WORD_LENGTH - 1));
+        }
+        return STATUS_BY_DIGIT[(pattern / POWERS_OF_THREE[position]) % 3];
+    }
+}
@@ -0,0 +1,103 @@
+package com.ooad_kd_yz.polywordic.model;
+
+// One evaluated guess: the guessed word, the feedback pattern it received, and whether it ended (won or lost) its game.
+// Immutable and two references wide - a guess made through the service holds the dictionary's shared DictionaryWord,
+// and the pattern is one of 243 shared instances - so making a guess needs no PolywordicWord or String objects.
+// Serializes to the same JSON as the equivalent PolywordicWord: {"word":..., "letters":[...], "guessedCorrectly":...}
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+@JsonSerialize(using = GuessResult.Serializer.class)
+public record GuessResult(DictionaryWord guess, FeedbackPattern pattern, boolean endedGame) {
+
+    public GuessResult {
+        if (guess == null || pattern == null) {
+            throw new IllegalArgumentException("Guess and pattern must not be null");
+        }
+    }
+
+    // A guess that left its game active
+    public GuessResult(DictionaryWord guess, FeedbackPattern pattern) {
+        this(guess, pattern, false);
+    }
+
+    public static GuessResult of(String word, FeedbackPattern pattern) {
+        return new GuessResult(DictionaryWord.of(word), pattern);
+    }
+
+    public String word() {
+        return guess.word();
+    }
+
+    public int wordCode() {
+        return guess.code();
+    }
+
+    public char letterAt(int position) {
+        return guess.letterAt(position);
+    }
+
+    public LetterStatus statusAt(int position) {
+        return pattern.statusAt(position);
+    }
+
+    public boolean isSolved() {
+        return pattern.isSolved();
+    }
+
+    // Mutable PolywordicWord view with letter statuses applied
+    public PolywordicWord toWord() {
+        PolywordicWord word = new PolywordicWord(word());
+        word.applyPattern(pattern);
+        return word;
+    }
+
+    // Writes the five letter objects, e.g. the "letters" array below
+    static void writeLetters(GuessResult guess, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (int position = 0; position < WordCodec.WORD_LENGTH; position++) {
+            PolywordicLetter.Serializer.write(guess.letterAt(position), position, guess.statusAt(position), generator);
+        }
+        generator.writeEndArray();
+    }
+
+    static class Serializer extends StdSerializer<GuessResult> {
+        private static final SerializedString WORD = new SerializedString("word");
+        private static final SerializedString LETTERS = new SerializedString("letters");
+        private static final SerializedString GUESSED_CORRECTLY = new SerializedString("guessedCorrectly");
+
+        Serializer() {
+            super(GuessResult.class);
+        }
+
+        @Override
+        public void serialize(GuessResult guess, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject();
+            generator.writeFieldName(WORD);
+            generator.writeString(guess.word());
+            generator.writeFieldName(LETTERS);
+            writeLetters(guess, generator);
+            generator.writeFieldName(GUESSED_CORRECTLY);
+            generator.writeBoolean(guess.isSolved());
+            generator.writeEndObject();
+        }
+    }
+
+    // Serializes just the letter objects of a guess, as a JSON array (see GuessResultResponse.results)
+    public static class LettersSerializer extends StdSerializer<GuessResult> {
+        public LettersSerializer() {
+            super(GuessResult.class);
+        }
+
+        @Override
+        public void serialize(GuessResult guess, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeLetters(guess, generator);
+        }
+    }
+}
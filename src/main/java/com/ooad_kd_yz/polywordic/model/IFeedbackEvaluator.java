@@ -0,0 +1,21 @@
+package com.ooad_kd_yz.polywordic.model;
+
+// Strategy for scoring a guess against a target word (both upper case 5-letter words).
+
+public interface IFeedbackEvaluator {
+    FeedbackPattern evaluate(String target, String guess);
+
+    // Position of word in this evaluator's precomputed table, or DictionaryWord.NO_RANK if it has none; a game
+    // resolves its target's rank once, when it is created
+    default int rankOf(String word) {
+        return DictionaryWord.NO_RANK;
+    }
+
+    // Scores a dictionary guess against a target whose rank came from rankOf
+    default FeedbackPattern evaluate(String target, int targetRank, DictionaryWord guess) {
+        return evaluate(target, guess.word());
+    }
+
+    // Default strategy: computes every pattern on the fly
+    IFeedbackEvaluator COMPUTED = FeedbackPattern::evaluate;
+}
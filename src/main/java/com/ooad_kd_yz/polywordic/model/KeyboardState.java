@@ -0,0 +1,125 @@
+package com.ooad_kd_yz.polywordic.model;
+
+// Immutable snapshot of the on-screen keyboard: the best status seen so far for each letter A-Z.
+// Statuses are stored as 2-bit ranks (UNKNOWN < NOT_IN_WORD < INCORRECT_POSITION < CORRECT_POSITION) packed into
+// a single long, so a game can update it in place as each guess is applied and readers never rescan the guesses.
+// Serializes to the same JSON object as the Map<Character, LetterStatus> form ({"A":"UNKNOWN", ...}) using
+// pre-encoded field names and values.
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@JsonSerialize(using = KeyboardState.Serializer.class)
+public final class KeyboardState {
+    private static final int LETTERS = 26;
+    private static final LetterStatus[] STATUS_BY_RANK = {
+            LetterStatus.UNKNOWN, LetterStatus.NOT_IN_WORD, LetterStatus.INCORRECT_POSITION, LetterStatus.CORRECT_POSITION
+    };
+
+    public static final KeyboardState EMPTY = new KeyboardState(0L);
+
+    private final long bits;
+
+    private KeyboardState(long bits) {
+        this.bits = bits;
+    }
+
+    public static KeyboardState of(long bits) {
+        return bits == 0L ? EMPTY : new KeyboardState(bits);
+    }
+
+    // Returns bits updated with one evaluated guess (given as its WordCodec code); statuses are never downgraded
+    public static long applyGuess(long bits, int wordCode, FeedbackPattern pattern) {
+        for (int position = 0; position < WordCodec.WORD_LENGTH; position++) {
+            int shift = 2 * (WordCodec.letterAt(wordCode, position) - 'A');
+            long rank = rankOf(pattern.statusAt(position));
+            if (rank > ((bits >>> shift) & 3L)) {
+                bits = (bits & ~(3L << shift)) | (rank << shift);
+            }
+        }
+        return bits;
+    }
+
+    private static long rankOf(LetterStatus status) {
+        return switch (status) {
+            case UNKNOWN -> 0L;
+            case NOT_IN_WORD -> 1L;
+            case INCORRECT_POSITION -> 2L;
+            case CORRECT_POSITION -> 3L;
+        };
+    }
+
+    public long toBits() {
+        return bits;
+    }
+
+    public LetterStatus statusOf(char letter) {
+        int index = Character.toUpperCase(letter) - 'A';
+        if (index < 0 || index >= LETTERS) {
+            throw new IllegalArgumentException("Not a letter A-Z: " + letter);
+        }
+        return statusAt(index);
+    }
+
+    private LetterStatus statusAt(int index) {
+        return STATUS_BY_RANK[(int) ((bits >>> (2 * index)) & 3L)];
+    }
+
+    public Map<Character, LetterStatus> toMap() {
+        Map<Character, LetterStatus> statusMap = new LinkedHashMap<>();
+        for (int i = 0; i < LETTERS; i++) {
+            statusMap.put((char) ('A' + i), statusAt(i));
+        }
+        return statusMap;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof KeyboardState that && bits == that.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    static class Serializer extends StdSerializer<KeyboardState> {
+        private static final SerializedString[] LETTER_NAMES = new SerializedString[LETTERS];
+        private static final SerializedString[] STATUS_NAMES = new SerializedString[STATUS_BY_RANK.length];
+
+        static {
+            for (int i = 0; i < LETTERS; i++) {
+                LETTER_NAMES[i] = new SerializedString(String.valueOf((char) ('A' + i)));
+            }
+            for (int rank = 0; rank < STATUS_BY_RANK.length; rank++) {
+                STATUS_NAMES[rank] = new SerializedString(STATUS_BY_RANK[rank].name());
+            }
+        }
+
+        Serializer() {
+            super(KeyboardState.class);
+        }
+
+        @Override
+        public void serialize(KeyboardState state, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < LETTERS; i++) {
+                generator.writeFieldName(LETTER_NAMES[i]);
+                generator.writeString(STATUS_NAMES[(int) ((state.bits >>> (2 * i)) & 3L)]);
+            }
+            generator.writeEndObject();
+        }
+    }
+}
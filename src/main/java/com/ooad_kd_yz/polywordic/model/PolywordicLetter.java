@@ -1,9 +1,19 @@
 package com.ooad_kd_yz.polywordic.model;
 
 // Represents a single letter in the word with its GuessResult status
+// Serializes to {"letter":"A","position":0,"status":"UNKNOWN"}; for letters A-Z the whole object is written from a
+// pre-encoded fragment (26 letters x 5 positions x 4 statuses) instead of being introspected field by field.
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
 import java.util.Objects;
 
+@JsonSerialize(using = PolywordicLetter.Serializer.class)
 public class PolywordicLetter {
     private final char letter;
     private final int position; // position in PolywordicWord (0-5)
@@ -60,4 +70,52 @@ public class PolywordicLetter {
     public int hashCode() {
         return Objects.hash(letter, position);
     }
+
+    static class Serializer extends StdSerializer<PolywordicLetter> {
+        private static final LetterStatus[] STATUSES = LetterStatus.values();
+        private static final SerializedString[] FRAGMENTS =
+                new SerializedString[26 * WordCodec.WORD_LENGTH * STATUSES.length];
+
+        static {
+            for (int letter = 0; letter < 26; letter++) {
+                for (int position = 0; position < WordCodec.WORD_LENGTH; position++) {
+                    for (LetterStatus status : STATUSES) {
+                        FRAGMENTS[indexOf(letter, position, status)] = new SerializedString(
+                                "{\"letter\":\"" + (char) ('A' + letter) + "\",\"position\":" + position
+                                        + ",\"status\":\"" + status.name() + "\"}");
+                    }
+                }
+            }
+        }
+
+        Serializer() {
+            super(PolywordicLetter.class);
+        }
+
+        private static int indexOf(int letter, int position, LetterStatus status) {
+            return (letter * WordCodec.WORD_LENGTH + position) * STATUSES.length + status.ordinal();
+        }
+
+        // Writes one letter object; the fragment path covers every letter of a validated guess
+        static void write(char letter, int position, LetterStatus status, JsonGenerator generator) throws IOException {
+            int index = letter - 'A';
+            if (index >= 0 && index < 26 && position >= 0 && position < WordCodec.WORD_LENGTH) {
+                generator.writeRawValue(FRAGMENTS[indexOf(index, position, status)]);
+                return;
+            }
+            generator.writeStartObject();
+            generator.writeFieldName("letter");
+            generator.writeString(String.valueOf(letter));
+            generator.writeFieldName("position");
+            generator.writeNumber(position);
+            generator.writeFieldName("status");
+            generator.writeString(status.name());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void serialize(PolywordicLetter letter, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            write(letter.letter, letter.position, letter.status, generator);
+        }
+    }
 }
@@ -2,6 +2,8 @@ package com.ooad_kd_yz.polywordic.model;
 
 // Represents a 5-letter Polywordic word with individual letter GuessResult tracking.
 // Implements the Iterator Pattern to allow iteration over letters and their states.
+// A mutable per-request view (five letter objects and a list): games store guesses as packed ints and return
+// GuessResult, so PolywordicWord is only built when a caller asks for the letter objects.
 
 import com.ooad_kd_yz.polywordic.model.iterator.PWIterable;
 import com.ooad_kd_yz.polywordic.model.iterator.PolywordicWordIterator;
@@ -82,67 +84,23 @@ public class PolywordicWord implements PWIterable {
         return new PolywordicWordIterator(letters);
     }
 
-    // Count frequency of each letter in word using custom iterator
-    private Map<Character, Integer> getLetterFrequencyMap() {
-        Map<Character, Integer> letterCounts = new HashMap<>();
-        PolywordicWordIterator iterator = this.createIterator();
-        while (iterator.hasNext()) {
-            char letter = iterator.next().getLetter();
-            letterCounts.put(letter, letterCounts.getOrDefault(letter, 0) + 1);
-        }
-
-        return letterCounts;
-    }
-
     // Evaluates a guess against the target word (this), and updates letter status
+    // Thin adapter over the allocation-free FeedbackPattern evaluation
     public List<LetterStatus> evaluateGuess(PolywordicWord guess) {
         if (guess.wordLength() != this.wordLength()) {
             throw new IllegalArgumentException("Guess must be same length as target word");
         }
 
-        List<LetterStatus> results = new ArrayList<>();
-
-        Map<Character, Integer> targetWordLetterCounts = this.getLetterFrequencyMap();
-
-        // First pass: mark correct positions using custom iterators
-        LetterStatus[] guessResults = new LetterStatus[this.wordLength()];
-        PolywordicWordIterator guessWordIterator = guess.createIterator();
-        PolywordicWordIterator targetWordIterator = this.createIterator();
-
-        while (guessWordIterator.hasNext() && targetWordIterator.hasNext()) {
-            PolywordicLetter guessLetter = guessWordIterator.next();
-            PolywordicLetter targetLetter = targetWordIterator.next();
-            int position = guessLetter.getPosition();
-
-            if (guessLetter.getLetter() == targetLetter.getLetter()) {
-                guessResults[position] = LetterStatus.CORRECT_POSITION;
-                guessLetter.setStatus(LetterStatus.CORRECT_POSITION);
-                targetWordLetterCounts.put(guessLetter.getLetter(),
-                        targetWordLetterCounts.get(guessLetter.getLetter()) - 1);
-            }
-        }
+        FeedbackPattern pattern = FeedbackPattern.evaluate(this.word, guess.word);
+        guess.applyPattern(pattern);
+        return pattern.getStatuses();
+    }
 
-        // Second pass: mark present and absent using custom iterator
-        guessWordIterator.reset(); // resets iterator to first element in guess word
-        while (guessWordIterator.hasNext()) {
-            PolywordicLetter guessLetter = guessWordIterator.next();
-            int position = guessLetter.getPosition();
-
-            if (guessResults[position] == null) { // letters NOT in correct position
-                char letter = guessLetter.getLetter();
-                if (targetWordLetterCounts.getOrDefault(letter, 0) > 0) {
-                    guessResults[position] = LetterStatus.INCORRECT_POSITION;
-                    guessLetter.setStatus(LetterStatus.INCORRECT_POSITION);
-                    targetWordLetterCounts.put(letter, targetWordLetterCounts.get(letter) - 1);
-                } else {
-                    guessResults[position] = LetterStatus.NOT_IN_WORD;
-                    guessLetter.setStatus(LetterStatus.NOT_IN_WORD);
-                }
-            }
-            results.add(guessResults[position]);
+    // Sets each letter's status from an already evaluated pattern
+    public void applyPattern(FeedbackPattern pattern) {
+        for (int position = 0; position < letters.size(); position++) {
+            letters.get(position).setStatus(pattern.statusAt(position));
         }
-
-        return results;
     }
 
     public void resetStatuses() {
@@ -0,0 +1,45 @@
+package com.ooad_kd_yz.polywordic.model;
+
+// Encodes 5-letter A-Z words as base-26 integers (letter 0 is the most significant digit).
+// 26^5 = 11,881,376 distinct words, so every code fits in 24 bits and can be packed alongside other data in an int.
+
+public final class WordCodec {
+    public static final int WORD_LENGTH = 5;
+    public static final int CODE_SPACE = 26 * 26 * 26 * 26 * 26;
+
+    private static final int[] POWERS_OF_26 = {26 * 26 * 26 * 26, 26 * 26 * 26, 26 * 26, 26, 1};
+
+    private WordCodec() {}
+
+    // Returns the code for word (case-insensitive), or -1 if word is not exactly 5 letters A-Z
+    public static int encode(CharSequence word) {
+        if (word == null || word.length() != WORD_LENGTH) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int letter = (word.charAt(i) | 0x20) - 'a'; // folds upper case onto lower case for ASCII letters
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+            code = code * 26 + letter;
+        }
+        return code;
+    }
+
+    // Returns the upper case letter at position within an encoded word
+    public static char letterAt(int code, int position) {
+        return (char) ('A' + (code / POWERS_OF_26[position]) % 26);
+    }
+
+    public static String decode(int code) {
+        if (code < 0 || code >= CODE_SPACE) {
+            throw new IllegalArgumentException("Invalid word code: " + code);
+        }
+        char[] letters = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            letters[i] = letterAt(code, i);
+        }
+        return new String(letters);
+    }
+}
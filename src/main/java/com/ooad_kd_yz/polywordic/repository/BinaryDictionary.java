@@ -0,0 +1,128 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+// Compact binary dictionary format read by MappedWordRepository.
+// Layout (big-endian):
+//   int magic ("PWD1"), int word count, int CRC32 of the records,
+//   followed by one fixed 5-byte ASCII record per word, upper case, sorted and distinct.
+// The main method is run by the Gradle generateBinaryDictionary task to compile wordlist/words.txt.
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+public final class BinaryDictionary {
+    public static final int MAGIC = 0x50574431; // "PWD1"
+    public static final int HEADER_BYTES = 3 * Integer.BYTES;
+    public static final int RECORD_BYTES = 5;
+
+    private BinaryDictionary() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BinaryDictionary <words.txt> <words.bin>");
+        }
+        List<String> words = Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8);
+        Path output = Path.of(args[1]);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        int count = write(words, output);
+        System.out.println("Wrote " + count + " words to " + output);
+    }
+
+    // Writes the valid (5 letters A-Z, case-insensitive) words in sorted, distinct order; returns the word count
+    public static int write(Collection<String> words, Path file) throws IOException {
+        List<String> records = words.stream()
+                .map(String::trim)
+                .map(String::toUpperCase)
+                .filter(w -> w.matches("^[A-Z]{5}$"))
+                .sorted()
+                .distinct()
+                .toList();
+
+        ByteBuffer body = ByteBuffer.allocate(records.size() * RECORD_BYTES);
+        for (String record : records) {
+            body.put(record.getBytes(StandardCharsets.US_ASCII));
+        }
+        body.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(records.size())
+                .putInt((int) crc.getValue());
+        header.flip();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+        return records.size();
+    }
+
+    // Memory-maps file, validates the header and checksum, and returns a read-only buffer over the records only
+    public static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a binary dictionary: " + file);
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.getInt(0) != MAGIC) {
+                throw new IOException("Not a binary dictionary: " + file);
+            }
+            int count = mapped.getInt(Integer.BYTES);
+            int expectedCrc = mapped.getInt(2 * Integer.BYTES);
+            if (count < 0 || channel.size() != HEADER_BYTES + (long) count * RECORD_BYTES) {
+                throw new IOException("Truncated binary dictionary: " + file);
+            }
+
+            ByteBuffer records = mapped.slice(HEADER_BYTES, count * RECORD_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(records.duplicate());
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("Checksum mismatch in binary dictionary: " + file);
+            }
+            return records; // mapping stays valid after the channel is closed
+        }
+    }
+
+    // Maps a dictionary packaged on the classpath; resources inside a jar are first copied to a temp file
+    public static ByteBuffer mapResource(String resource) throws IOException {
+        URL url = BinaryDictionary.class.getClassLoader().getResource(resource);
+        if (url == null) {
+            throw new IOException("Binary dictionary resource not found: " + resource);
+        }
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Path.of(url.toURI()));
+            } catch (URISyntaxException exception) {
+                throw new IOException(exception);
+            }
+        }
+
+        Path copy = Files.createTempFile("polywordic-dictionary", ".bin");
+        copy.toFile().deleteOnExit();
+        try (InputStream in = url.openStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return map(copy);
+    }
+}
@@ -1,9 +1,26 @@
 package com.ooad_kd_yz.polywordic.repository;
 
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+
 import java.util.List;
 
 public interface IWordRepository {
-    String getRandomWord();
+    String getRandomWord(); // uses the repository's configured IWordSelectionStrategy
+
+    // Selects with a caller-supplied strategy (e.g. a per-player ShuffledWordSelectionStrategy)
+    default String getRandomWord(IWordSelectionStrategy strategy) {
+        WordTable words = getWordTable();
+        return words.wordAt(strategy.nextIndex(words.size()));
+    }
+
     boolean isValidWord(String word);
-    List<String> getAllWords();
+    List<String> getAllWords(); // read-only view of the dictionary
+
+    // The dictionary's shared DictionaryWord for word (case-insensitive), or null if it is not a dictionary word
+    default DictionaryWord lookup(CharSequence word) {
+        return getWordTable().lookup(word);
+    }
+
+    // Shared, immutable dictionary with index-based access; built once by the implementation, never per call
+    WordTable getWordTable();
 }
@@ -0,0 +1,8 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+// Strategy Pattern - decides which dictionary word becomes a new game's target.
+// Implementations must be safe to call from many game-creation threads at once.
+
+public interface IWordSelectionStrategy {
+    int nextIndex(int wordCount); // returns an index in [0, wordCount)
+}
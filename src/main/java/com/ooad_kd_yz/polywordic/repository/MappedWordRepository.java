@@ -0,0 +1,173 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+// IWordRepository over a memory-mapped BinaryDictionary (enabled with polywordic.dictionary.format=binary).
+// Startup only maps and checksums the file - no parsing, regex or String creation - and isValidWord binary searches
+// the sorted fixed-width records directly, comparing bytes case-insensitively without allocating. lookup uses the same
+// search and creates each word's shared DictionaryWord (ranked by record index) the first time it is looked up.
+
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.WordCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Repository
+@ConditionalOnProperty(name = "polywordic.dictionary.format", havingValue = "binary")
+public class MappedWordRepository implements IWordRepository {
+    private static final Logger log = LoggerFactory.getLogger(MappedWordRepository.class);
+    static final String DEFAULT_RESOURCE = "wordlist/words.bin";
+
+    private final ByteBuffer records; // read-only, only absolute gets are used so it is safe to share between threads
+    private final int wordCount;
+    private final IWordSelectionStrategy selectionStrategy;
+    private final AtomicReferenceArray<DictionaryWord> entries; // by record index, created on first lookup
+    private volatile WordTable wordTable; // only materialized if a caller needs String/index access to every word
+
+    @Autowired
+    public MappedWordRepository(@Value("${polywordic.dictionary.file:}") String file,
+                                IWordSelectionStrategy selectionStrategy) {
+        this(mapDictionary(file), selectionStrategy);
+    }
+
+    public MappedWordRepository(Path file) {
+        this(mapDictionary(file.toString()), new RandomWordSelectionStrategy());
+    }
+
+    private MappedWordRepository(ByteBuffer records, IWordSelectionStrategy selectionStrategy) {
+        this.records = records;
+        this.selectionStrategy = selectionStrategy;
+        this.wordCount = records.capacity() / BinaryDictionary.RECORD_BYTES;
+        this.entries = new AtomicReferenceArray<>(wordCount);
+        log.info("Mapped {} words from binary dictionary", wordCount);
+    }
+
+    private static ByteBuffer mapDictionary(String file) {
+        try {
+            return file == null || file.isBlank()
+                    ? BinaryDictionary.mapResource(DEFAULT_RESOURCE)
+                    : BinaryDictionary.map(Path.of(file));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to load binary dictionary", exception);
+        }
+    }
+
+    private String wordAt(int index) {
+        byte[] letters = new byte[BinaryDictionary.RECORD_BYTES];
+        records.get(index * BinaryDictionary.RECORD_BYTES, letters);
+        return new String(letters, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public String getRandomWord() {
+        return getRandomWord(selectionStrategy);
+    }
+
+    @Override
+    public String getRandomWord(IWordSelectionStrategy strategy) {
+        return wordAt(strategy.nextIndex(wordCount));
+    }
+
+    @Override
+    public boolean isValidWord(String word) {
+        return indexOf(word) >= 0;
+    }
+
+    @Override
+    public DictionaryWord lookup(CharSequence word) {
+        int index = indexOf(word);
+        if (index < 0) {
+            return null;
+        }
+        DictionaryWord entry = entries.get(index);
+        if (entry == null) {
+            String letters = wordAt(index);
+            entry = new DictionaryWord(letters, WordCodec.encode(letters), index); // records are sorted and distinct
+            if (!entries.compareAndSet(index, null, entry)) {
+                entry = entries.get(index); // another thread created it first; share that one
+            }
+        }
+        return entry;
+    }
+
+    // Record index of word (case-insensitive), or -1 if it isn't in the dictionary
+    private int indexOf(CharSequence word) {
+        if (word == null || word.length() != BinaryDictionary.RECORD_BYTES) {
+            return -1;
+        }
+        for (int i = 0; i < BinaryDictionary.RECORD_BYTES; i++) {
+            // ASCII letters only, as in WordCodec.encode: Character.toUpperCase would fold e.g. 'ı' onto 'I'
+            int letter = (word.charAt(i) | 0x20) - 'a';
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+        }
+
+        int low = 0;
+        int high = wordCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareRecord(mid, word);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Compares the record at index with word, which must be ASCII letters (upper-cased letter by letter)
+    private int compareRecord(int index, CharSequence word) {
+        int offset = index * BinaryDictionary.RECORD_BYTES;
+        for (int i = 0; i < BinaryDictionary.RECORD_BYTES; i++) {
+            int diff = records.get(offset + i) - (word.charAt(i) & ~0x20);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    // Read-only view that decodes words on access instead of copying the dictionary
+    @Override
+    public List<String> getAllWords() {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                if (index < 0 || index >= wordCount) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return wordAt(index);
+            }
+
+            @Override
+            public int size() {
+                return wordCount;
+            }
+        };
+    }
+
+    @Override
+    public WordTable getWordTable() {
+        WordTable table = wordTable;
+        if (table == null) {
+            table = new WordTable(getAllWords()); // racing callers may each build one; any of them is equivalent
+            wordTable = table;
+        }
+        return table;
+    }
+}
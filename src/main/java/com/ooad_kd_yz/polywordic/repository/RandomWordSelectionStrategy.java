@@ -0,0 +1,13 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+// Default selection: uniformly random using the calling thread's own generator,
+// so concurrent game creation never contends on a shared seed.
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RandomWordSelectionStrategy implements IWordSelectionStrategy {
+    @Override
+    public int nextIndex(int wordCount) {
+        return ThreadLocalRandom.current().nextInt(wordCount);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+// Reproducible selection for load tests: the n-th word selected is always the same for a given seed,
+// whichever thread selects it. Each pick is a SplitMix64 hash of (seed, sequence number), so threads only
+// share a single counter increment rather than a generator's state.
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SeededWordSelectionStrategy implements IWordSelectionStrategy {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SeededWordSelectionStrategy(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public int nextIndex(int wordCount) {
+        long mixed = mix64(seed + sequence.getAndIncrement() * GOLDEN_GAMMA);
+        return (int) Math.floorMod(mixed, (long) wordCount);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+// No-repeat selection: walks a shuffled permutation of the dictionary and reshuffles once every word has been used,
+// so a player never sees the same target twice until the dictionary is exhausted. Intended to be held per player.
+
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ShuffledWordSelectionStrategy implements IWordSelectionStrategy {
+    private final SplittableRandom random;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int[] order = new int[0];
+    private int next;
+
+    public ShuffledWordSelectionStrategy() {
+        this(new SplittableRandom());
+    }
+
+    public ShuffledWordSelectionStrategy(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private ShuffledWordSelectionStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextIndex(int wordCount) {
+        lock.lock();
+        try {
+            if (order.length != wordCount || next == order.length) {
+                reshuffle(wordCount);
+            }
+            return order[next++];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Fisher-Yates shuffle of 0..wordCount-1
+    private void reshuffle(int wordCount) {
+        if (order.length != wordCount) {
+            order = new int[wordCount];
+            for (int i = 0; i < wordCount; i++) {
+                order[i] = i;
+            }
+        }
+        for (int i = wordCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        next = 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+// Membership index over every possible 5-letter A-Z word.
+// Each word maps to its base-26 WordCodec code, and the index is a bitset with one bit per code
+// (26^5 ~= 11.9M bits ~= 1.5 MB), so checking a word is a single bit test with no hashing, upper-casing or allocation.
+// Immutable once built, so it can be read from any number of threads.
+
+import com.ooad_kd_yz.polywordic.model.WordCodec;
+
+import java.util.Collection;
+
+public final class WordIndex {
+    private final long[] bits = new long[(WordCodec.CODE_SPACE + Long.SIZE - 1) / Long.SIZE];
+    private final int size;
+
+    // Words that are not 5 letters A-Z are ignored
+    public WordIndex(Collection<String> words) {
+        int count = 0;
+        for (String word : words) {
+            int code = WordCodec.encode(word);
+            if (code >= 0 && !containsCode(code)) {
+                bits[code >>> 6] |= 1L << code; // shift uses the low 6 bits of code
+                count++;
+            }
+        }
+        this.size = count;
+    }
+
+    // Case-insensitive membership test
+    public boolean contains(CharSequence word) {
+        int code = WordCodec.encode(word);
+        return code >= 0 && containsCode(code);
+    }
+
+    public boolean containsCode(int code) {
+        return (bits[code >>> 6] & (1L << code)) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -1,7 +1,12 @@
 package com.ooad_kd_yz.polywordic.repository;
 
 // In-memory implementation of IWordRepository to generate random 5-letter word for Polywordic games.
+// Default dictionary (polywordic.dictionary.format=text); see MappedWordRepository for the binary format.
 
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.WordCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.io.BufferedReader;
@@ -11,27 +16,35 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Repository
+@ConditionalOnProperty(name = "polywordic.dictionary.format", havingValue = "text", matchIfMissing = true)
 public class WordRepository implements IWordRepository {
-    private final List<String> words;
-    private final Set<String> wordSet;
-    private final Random random;
+    private final WordTable wordTable; // shared by every getAllWords/getWordTable caller, never copied
+    private final WordIndex wordIndex; // base-26 bitset, validates guesses without allocating
+    private final IWordSelectionStrategy selectionStrategy;
 
     public WordRepository() {
-        this.random = new Random();
+        this(new RandomWordSelectionStrategy());
+    }
+
+    @Autowired
+    public WordRepository(IWordSelectionStrategy selectionStrategy) {
+        this.selectionStrategy = selectionStrategy;
         List<String> loadedWords = loadWordsFromResource("wordlist/words.txt");
+        List<String> words;
 
         if (loadedWords.isEmpty()) {
             // Keep original fallback list
-            this.words = Arrays.asList(
+            words = Arrays.asList(
                     "ABOUT", "ABOVE", "APPLE", "HOUSE", "LIGHT", "MUSIC", "TABLE", "TRAIN", "SMILE", "WATER"
             );
             System.err.println("Dictionary file not found or empty, using fallback list (" + words.size() + " words).");
         } else {
-            this.words = loadedWords;
+            words = loadedWords;
             System.out.println("Loaded " + words.size() + " words from dictionary file.");
         }
 
-        this.wordSet = new HashSet<>(words); // HashSet ensures uniqueness (not thread-safe if multiple threads are trying to access its elements)
+        this.wordTable = new WordTable(words);
+        this.wordIndex = new WordIndex(words); // immutable after construction, safe to read from any thread
     }
 
     protected List<String> loadWordsFromResource(String filename) {
@@ -53,16 +66,33 @@ public class WordRepository implements IWordRepository {
 
     @Override
     public String getRandomWord() {
-        return words.get(random.nextInt(words.size()));
+        return getRandomWord(selectionStrategy);
+    }
+
+    @Override
+    public String getRandomWord(IWordSelectionStrategy strategy) {
+        return wordTable.wordAt(strategy.nextIndex(wordTable.size()));
     }
 
     @Override
     public boolean isValidWord(String word) {
-        return word != null && wordSet.contains(word.toUpperCase()) && word.length() == 5;
+        return wordIndex.contains(word); // case-insensitive; false for null or anything but 5 letters A-Z
+    }
+
+    // Most rejected guesses fail the bitset, so only dictionary words reach the table's binary search
+    @Override
+    public DictionaryWord lookup(CharSequence word) {
+        int code = WordCodec.encode(word);
+        return code >= 0 && wordIndex.containsCode(code) ? wordTable.lookupCode(code) : null;
     }
 
     @Override
     public List<String> getAllWords() {
-        return new ArrayList<>(words);
+        return wordTable.asList();
+    }
+
+    @Override
+    public WordTable getWordTable() {
+        return wordTable;
     }
 }
@@ -0,0 +1,88 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+// Immutable, shareable view of a dictionary with index-based access.
+// Holds each word once as a String plus its WordCodec code, so the whole dictionary can be scanned
+// (by String or by primitive code) any number of times without copying or allocating.
+// Also the Flyweight Factory for DictionaryWord: one instance per entry, found by index or by lookup, ranked by its
+// position among the table's distinct codes (matching a FeedbackMatrix built from the same words).
+
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.WordCodec;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public final class WordTable {
+    private final String[] words;
+    private final int[] codes;
+    private final DictionaryWord[] entries;
+    private final int[] sortedCodes; // codes in ascending order, with the index of each in sortedIndexes
+    private final int[] sortedIndexes;
+    private final List<String> view;
+
+    // words must already be upper case 5-letter A-Z words
+    public WordTable(Collection<String> words) {
+        this.words = words.toArray(new String[0]);
+        this.codes = new int[this.words.length];
+        this.entries = new DictionaryWord[this.words.length];
+        long[] codeAndIndex = new long[this.words.length];
+        for (int i = 0; i < this.words.length; i++) {
+            codes[i] = WordCodec.encode(this.words[i]);
+            if (codes[i] < 0) {
+                throw new IllegalArgumentException("Not a 5-letter A-Z word: " + this.words[i]);
+            }
+            codeAndIndex[i] = (long) codes[i] << 32 | i;
+        }
+        Arrays.sort(codeAndIndex);
+        this.sortedCodes = new int[codeAndIndex.length];
+        this.sortedIndexes = new int[codeAndIndex.length];
+        int rank = -1;
+        for (int i = 0; i < codeAndIndex.length; i++) {
+            sortedCodes[i] = (int) (codeAndIndex[i] >>> 32);
+            sortedIndexes[i] = (int) codeAndIndex[i];
+            if (i == 0 || sortedCodes[i] != sortedCodes[i - 1]) {
+                rank++; // duplicates share a rank
+            }
+            entries[sortedIndexes[i]] = new DictionaryWord(this.words[sortedIndexes[i]], sortedCodes[i], rank);
+        }
+        this.view = Collections.unmodifiableList(Arrays.asList(this.words));
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public String wordAt(int index) {
+        return words[index];
+    }
+
+    public int codeAt(int index) {
+        return codes[index];
+    }
+
+    // The shared DictionaryWord for the word at index
+    public DictionaryWord entryAt(int index) {
+        return entries[index];
+    }
+
+    // The shared DictionaryWord for word (case-insensitive), or null if it is not in the table; allocation-free
+    public DictionaryWord lookup(CharSequence word) {
+        return lookupCode(WordCodec.encode(word));
+    }
+
+    // The shared DictionaryWord for a WordCodec code, or null if it is not in the table (or negative)
+    public DictionaryWord lookupCode(int code) {
+        if (code < 0) {
+            return null;
+        }
+        int i = Arrays.binarySearch(sortedCodes, code);
+        return i < 0 ? null : entries[sortedIndexes[i]];
+    }
+
+    // Unmodifiable List backed directly by the table (no copy)
+    public List<String> asList() {
+        return view;
+    }
+}
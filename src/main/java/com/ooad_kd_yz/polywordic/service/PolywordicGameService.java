@@ -1,15 +1,26 @@
 package com.ooad_kd_yz.polywordic.service;
 
-import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.dto.BatchGuessRequest;
+import com.ooad_kd_yz.polywordic.dto.BatchGuessResponse;
+import com.ooad_kd_yz.polywordic.id.IGameIdGenerator;
+import com.ooad_kd_yz.polywordic.id.UuidGameIdGenerator;
+import com.ooad_kd_yz.polywordic.metrics.IGameMetrics;
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.FeedbackPattern;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
 import com.ooad_kd_yz.polywordic.repository.IWordRepository;
 import com.ooad_kd_yz.polywordic.state.GameStateContext;
 import com.ooad_kd_yz.polywordic.factory.*;
+import com.ooad_kd_yz.polywordic.store.IGameStore;
+import com.ooad_kd_yz.polywordic.store.InMemoryGameStore;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 
 // Service for managing Polywordic games (contains all business logic) - responsible for orchestrating communication between different components
 // (word repository, game factories, game state, etc.), to effectively manages active games, validates guesses, and select which GameFactory to use based on difficulty level.
@@ -18,39 +29,87 @@ import java.util.UUID;
 
 @Service
 public class PolywordicGameService {
+    public static final int MAX_BATCH_GUESSES = 64; // per game, per makeGuesses call
+    public static final int MAX_BULK_GAMES = 1000; // per createNewGames call
+    public static final int MAX_BATCH_GAMES = 1000; // per multi-game guess request (/api/games/guesses)
+
     private final IWordRepository wordRepository;
-    private final Map<String, GameStateContext> activeGames; // In-memory game storage
-    private final Map<String, IPolywordicGameFactory> factories;
+    private final IGameStore activeGames; // thread-safe game storage (shared by all request threads), keyed by numeric game key
+    private final GameFactoryRegistry factories; // one factory per Difficulty, found without normalizing the request string
+    private final IFeedbackEvaluator feedbackEvaluator; // scores guesses (computed, or precomputed feedback matrix)
+    private final IGameMetrics metrics; // game/guess counters and guess latency (no-op unless a metrics backend is configured)
+    private final IGameIdGenerator gameIdGenerator; // numeric game keys and their string form shown to clients
 
     public PolywordicGameService(IWordRepository wordRepository) {
-        this.wordRepository = wordRepository;
-        this.activeGames = new HashMap<>();
-        this.factories = new HashMap<>();
+        this(wordRepository, new InMemoryGameStore());
+    }
 
-        registerFactory(new EasyPolywordicGameFactory());
-        registerFactory(new MediumPolywordicGameFactory());
-        registerFactory(new HardPolywordicGameFactory());
+    public PolywordicGameService(IWordRepository wordRepository, IGameStore gameStore) {
+        this(wordRepository, gameStore, IFeedbackEvaluator.COMPUTED);
     }
 
-    private void registerFactory(IPolywordicGameFactory factory) {
-        factories.put(factory.getDifficulty(), factory); // maps difficulty level to corresponding factory (i.e. "HARD" to HardPolywordiGameFactory)
+    public PolywordicGameService(IWordRepository wordRepository, IGameStore gameStore, IFeedbackEvaluator feedbackEvaluator) {
+        this(wordRepository, gameStore, feedbackEvaluator, IGameMetrics.NOOP);
+    }
+
+    public PolywordicGameService(IWordRepository wordRepository, IGameStore gameStore, IFeedbackEvaluator feedbackEvaluator,
+                                 IGameMetrics metrics) {
+        this(wordRepository, gameStore, feedbackEvaluator, metrics, new UuidGameIdGenerator());
+    }
+
+    public PolywordicGameService(IWordRepository wordRepository, IGameStore gameStore, IFeedbackEvaluator feedbackEvaluator,
+                                 IGameMetrics metrics, IGameIdGenerator gameIdGenerator) {
+        this(wordRepository, gameStore, feedbackEvaluator, metrics, gameIdGenerator, GameFactoryRegistry.builtIn());
+    }
+
+    // factories maps each difficulty level to its factory (i.e. HARD to HardPolywordicGameFactory); under Spring it
+    // holds every IPolywordicGameFactory component
+    @Autowired
+    public PolywordicGameService(IWordRepository wordRepository, IGameStore gameStore, IFeedbackEvaluator feedbackEvaluator,
+                                 IGameMetrics metrics, IGameIdGenerator gameIdGenerator, GameFactoryRegistry factories) {
+        this.wordRepository = wordRepository;
+        this.activeGames = gameStore;
+        this.feedbackEvaluator = feedbackEvaluator;
+        this.metrics = metrics;
+        this.gameIdGenerator = gameIdGenerator;
+        this.factories = factories;
     }
 
     // utilizes the Factory Method pattern to create appropriate game
     public GameStateContext createNewGame(String difficulty) {
-        // Get the appropriate factory (default to EASY)
-        IPolywordicGameFactory factory = factories.get(difficulty.toUpperCase());
-        if (factory == null) {
-            factory = factories.get("EASY");
+        GameStateContext game = createGame(factoryFor(difficulty));
+        activeGames.sync(); // durable before the game ID is handed out
+        return game;
+    }
+
+    // Creates count games of one difficulty in one call (factory resolved once)
+    public List<GameStateContext> createNewGames(String difficulty, int count) {
+        if (count < 1 || count > MAX_BULK_GAMES) {
+            throw new IllegalArgumentException("Count must be between 1 and " + MAX_BULK_GAMES);
+        }
+        IPolywordicGameFactory factory = factoryFor(difficulty);
+        List<GameStateContext> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            games.add(createGame(factory));
         }
+        activeGames.sync(); // one sync for the whole batch
+        return games;
+    }
+
+    // Get the appropriate factory (default to EASY)
+    private IPolywordicGameFactory factoryFor(String difficulty) {
+        return factories.resolve(difficulty);
+    }
 
-        String gameId = UUID.randomUUID().toString(); // generate unique game ID
+    private GameStateContext createGame(IPolywordicGameFactory factory) {
+        long gameKey = gameIdGenerator.nextId(); // generate unique game ID
 
         String targetWord = wordRepository.getRandomWord();
 
-        GameStateContext game = factory.createGame(gameId, targetWord);
+        GameStateContext game = factory.createGame(gameIdGenerator.format(gameKey), targetWord, feedbackEvaluator);
 
-        activeGames.put(gameId, game); // keep track of all active games
+        activeGames.put(gameKey, game); // keep track of all active games
+        metrics.gameCreated(factory.getDifficulty());
 
         return game;
     }
@@ -61,42 +120,150 @@ public class PolywordicGameService {
     }
 
     public GameStateContext getGame(String gameId) {
-        GameStateContext game = activeGames.get(gameId);
+        long gameKey = gameIdGenerator.parse(gameId);
+        GameStateContext game = gameKey == IGameIdGenerator.INVALID_ID ? null : activeGames.get(gameKey);
         if (game == null) {
             throw new IllegalArgumentException("Game not found: " + gameId);
         }
         return game;
     }
 
-    public PolywordicWord makeGuess(String gameId, String guess) {
+    public GuessResult makeGuess(String gameId, String guess) {
+        long start = System.nanoTime();
+
         // Validate input
         if (guess == null || guess.length() != 5) {
+            metrics.guessRejected();
             throw new IllegalArgumentException("Guess must be exactly 5 letters");
         }
 
-        // Validate word exists in dictionary
-        if (!wordRepository.isValidWord(guess)) {
+        // Validate word exists in dictionary; the lookup returns the dictionary's shared entry for it
+        DictionaryWord word = wordRepository.lookup(guess);
+        if (word == null) {
+            metrics.guessInvalidWord();
             throw new IllegalArgumentException("Not a valid word: " + guess);
         }
 
         // Get game and make guess
-        GameStateContext game = getGame(gameId);
-        return game.makeGuess(guess);
+        GuessResult result;
+        try {
+            result = getGame(gameId).makeGuess(word);
+        } catch (RuntimeException e) {
+            metrics.guessRejected();
+            throw e;
+        }
+        activeGames.sync();
+        metrics.guessAccepted(System.nanoTime() - start);
+
+        // only the guess that ended the game reports it (decided under the game's lock), so each game counts once
+        if (result.endedGame()) {
+            metrics.gameFinished(result.isSolved());
+        }
+        return result;
+    }
+
+    // Applies an ordered list of guesses to one game in a single pass (see GameStateContext.makeGuesses).
+    // Returns one packed result per processed guess: the feedback pattern code, or GameStateContext.REJECTED_GUESS
+    // for a guess that isn't a valid 5-letter dictionary word. Guesses after the one that ends the game are ignored.
+    public int[] makeGuesses(String gameId, List<String> guesses) {
+        checkGuessList(guesses);
+        int[] results = applyGuesses(getGame(gameId), guesses);
+        activeGames.sync();
+        return results;
+    }
+
+    // Multi-game form of makeGuesses: plays each game's guesses in request order, then waits for one store sync
+    // covering every game (rather than one per game). A game that can't be played (missing entry, unknown game, bad
+    // guess list, game already over) gets an error entry instead of failing the whole request.
+    public List<BatchGuessResponse> makeGuessesForGames(List<BatchGuessRequest> requests) {
+        if (requests == null || requests.size() > MAX_BATCH_GAMES) {
+            throw new IllegalArgumentException("Body must be a list of at most " + MAX_BATCH_GAMES + " game requests");
+        }
+        List<BatchGuessResponse> responses = new ArrayList<>(requests.size());
+        for (BatchGuessRequest request : requests) {
+            if (request == null) {
+                responses.add(BatchGuessResponse.error(null, "Missing game request"));
+                continue;
+            }
+            try {
+                checkGuessList(request.guesses());
+                GameStateContext game = getGame(request.gameId());
+                responses.add(BatchGuessResponse.from(game, applyGuesses(game, request.guesses())));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                responses.add(BatchGuessResponse.error(request.gameId(), e.getMessage()));
+            }
+        }
+        activeGames.sync(); // one sync for the whole request
+        return responses;
+    }
+
+    private void checkGuessList(List<String> guesses) {
+        if (guesses == null || guesses.size() > MAX_BATCH_GUESSES) {
+            metrics.guessRejected();
+            throw new IllegalArgumentException("Guesses must be a list of at most " + MAX_BATCH_GUESSES + " words");
+        }
+    }
+
+    // Plays a validated guess list (see makeGuesses) and records its metrics; the caller syncs the store
+    private int[] applyGuesses(GameStateContext game, List<String> guesses) {
+        long start = System.nanoTime();
+        int[] results = new int[guesses.size()];
+        int count = game.makeGuesses(guesses, this::lookupGuess, results);
+
+        int accepted = 0;
+        for (int i = 0; i < count; i++) {
+            int result = results[i];
+            if (result == GameStateContext.REJECTED_GUESS) {
+                metrics.guessInvalidWord();
+                continue;
+            }
+            accepted++;
+            if ((result & GameStateContext.ENDED_GAME) != 0) { // only this batch's game-ending guess carries the bit
+                results[i] = result & ~GameStateContext.ENDED_GAME;
+                metrics.gameFinished(FeedbackPattern.of(results[i]).isSolved());
+            }
+        }
+        if (accepted > 0) {
+            long perGuessNanos = (System.nanoTime() - start) / accepted;
+            for (int i = 0; i < accepted; i++) {
+                metrics.guessAccepted(perGuessNanos);
+            }
+        }
+        return count == results.length ? results : Arrays.copyOf(results, count);
+    }
+
+    // The dictionary entry for a guess, or null if it isn't a valid 5-letter dictionary word
+    private DictionaryWord lookupGuess(String guess) {
+        return guess != null && guess.length() == 5 ? wordRepository.lookup(guess) : null;
     }
 
     public void deleteGame(String gameId) {
-        activeGames.remove(gameId);
+        long gameKey = gameIdGenerator.parse(gameId);
+        if (gameKey != IGameIdGenerator.INVALID_ID) {
+            activeGames.remove(gameKey);
+            activeGames.sync();
+        }
     }
 
     public int getActiveGameCount() {
         return activeGames.size();
     }
 
+    // games removed automatically because the store was full
+    public long getEvictedGameCount() {
+        return activeGames.getEvictedCount();
+    }
+
+    // games removed automatically because they were idle longer than the configured timeout
+    public long getExpiredGameCount() {
+        return activeGames.getExpiredCount();
+    }
+
     public Set<String> getAvailableDifficulties() {
-        return factories.keySet();
+        return factories.getDifficulties();
     }
 
     public boolean isValidDifficulty(String difficulty) {
-        return factories.containsKey(difficulty.toUpperCase());
+        return factories.find(difficulty) != null;
     }
 }
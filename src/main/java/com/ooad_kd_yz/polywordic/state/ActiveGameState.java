@@ -3,29 +3,33 @@ package com.ooad_kd_yz.polywordic.state;
 // State Pattern - Concrete State Object
 // In ActiveGameState, a player can guess words. The game can then transition to Won or Lost states.
 
-import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.FeedbackPattern;
+
+public final class ActiveGameState implements IGameState {
+    public static final ActiveGameState INSTANCE = new ActiveGameState();
+
+    private ActiveGameState() {}
 
-public class ActiveGameState implements IGameState {
     @Override
-    public PolywordicWord handle(GameStateContext context, String guess) {
+    public int handle(GameStateContext context, DictionaryWord guess) {
         // validate player hasn't exceeded max guesses
         if (context.getCurrentAttempt() >= context.getMaxAttempts()) {
             throw new IllegalStateException("No more guesses allowed");
         }
 
-        // evaluate the guesses word and update guess history
-        PolywordicWord guessWord = new PolywordicWord(guess);
-        context.getTargetWord().evaluateGuess(guessWord);
-        context.addGuess(guessWord);
+        // evaluate the guessed word and update guess history; the result is the packed guess, with no objects
+        FeedbackPattern pattern = context.evaluate(guess);
+        int packedGuess = context.addGuess(guess.code(), pattern);
 
         // Check if game should transition to a different state
-        if (context.getTargetWord().matches(guessWord)) {
-            context.setState(new WonGameState());
+        if (pattern.isSolved()) {
+            context.setState(WonGameState.INSTANCE);
         } else if (context.getCurrentAttempt() >= context.getMaxAttempts()) {
-            context.setState(new LostGameState());
+            context.setState(LostGameState.INSTANCE);
         }
 
-        return guessWord;
+        return packedGuess;
     }
 
     @Override
@@ -36,4 +40,7 @@ public class ActiveGameState implements IGameState {
 
     @Override
     public String getStateName() {return "ACTIVE";}
+
+    @Override
+    public byte getStateCode() {return GameStateContext.STATE_ACTIVE;}
 }
@@ -1,91 +1,281 @@
 package com.ooad_kd_yz.polywordic.state;
 
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.FeedbackPattern;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.model.KeyboardState;
 import com.ooad_kd_yz.polywordic.model.LetterStatus;
-import com.ooad_kd_yz.polywordic.model.PolywordicLetter;
 import com.ooad_kd_yz.polywordic.model.PolywordicWord;
-import com.ooad_kd_yz.polywordic.model.iterator.PolywordicWordIterator;
+import com.ooad_kd_yz.polywordic.model.WordCodec;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
 
 // State Pattern - Context Object
 // Maintains an instance of IGameState object and
 // delegates state-specific behavior to the current state.
+// Each game owns its own lock, so guesses for one game are serialized while different games proceed in parallel.
+// The lock is a ReentrantLock rather than synchronized so that, with virtual threads enabled, a request waiting on a
+// busy game parks and frees its carrier thread instead of pinning it.
+// Guesses are stored compactly as one int each (word code << 8 | feedback pattern code) rather than as PolywordicWord
+// objects, and a guess returns an immutable GuessResult (the guessed DictionaryWord + shared pattern); PolywordicWord
+// views are only rebuilt when a caller asks for them.
+// Flyweight Pattern - the guesses, keyboard bits, state and lock live in an IGameRecord: a HeapGameRecord owned by this
+// game, or a slot in an off-heap store, in which case this object is a short-lived view created for one request.
 
 public class GameStateContext {
+    private static final int PATTERN_BITS = 8; // feedback pattern codes are 0..242
+    private static final int PATTERN_MASK = (1 << PATTERN_BITS) - 1;
+
+    public static final int REJECTED_GUESS = -1; // makeGuesses result for a guess that failed validation
+    public static final int ENDED_GAME = 1 << PATTERN_BITS; // flag on the makeGuesses result of the game-ending guess
+
+    public static final byte STATE_ACTIVE = 0; // state codes, as kept in an IGameRecord
+    public static final byte STATE_WON = 1;
+    public static final byte STATE_LOST = 2;
+
+    private static final IGameState[] STATES = { // indexed by state code
+            ActiveGameState.INSTANCE, WonGameState.INSTANCE, LostGameState.INSTANCE};
 
     private final String gameId;
-    private final PolywordicWord targetWord;
-    private final List<PolywordicWord> guesses;
+    private final String targetWord;
+    private final int targetRank; // the target's row in the feedback evaluator's table, if it has one
     private final int maxAttempts;
-    private IGameState currentState;
+    private final IFeedbackEvaluator feedbackEvaluator;
+    private final IGameRecord record; // packed guesses in guess order, keyboard bits, state code and the guess lock
+    private IGuessListener guessListener = IGuessListener.NONE; // set before the game is shared (see setGuessListener)
 
     public GameStateContext(String gameId, String targetWord, int maxAttempts) {
+        this(gameId, targetWord, maxAttempts, IFeedbackEvaluator.COMPUTED);
+    }
+
+    public GameStateContext(String gameId, String targetWord, int maxAttempts, IFeedbackEvaluator feedbackEvaluator) {
+        this(gameId, targetWord, maxAttempts, feedbackEvaluator, new HeapGameRecord(maxAttempts)); // starts ACTIVE
+    }
+
+    // View over an existing record (e.g. an off-heap slot); the record must have room for maxAttempts guesses
+    public GameStateContext(String gameId, String targetWord, int maxAttempts, IFeedbackEvaluator feedbackEvaluator,
+                            IGameRecord record) {
+        if (WordCodec.encode(targetWord) < 0) {
+            throw new IllegalArgumentException("Target word must be exactly 5 letters A-Z");
+        }
         this.gameId = gameId;
-        this.targetWord = new PolywordicWord(targetWord);
+        this.targetWord = targetWord.toUpperCase(); // returns the same (shared) String when already upper case
+        this.targetRank = feedbackEvaluator.rankOf(this.targetWord);
         this.maxAttempts = maxAttempts;
-        this.guesses = new ArrayList<>();
-        this.currentState = new ActiveGameState(); // Initial state
+        this.feedbackEvaluator = feedbackEvaluator;
+        this.record = record;
     }
 
     public String getGameId() { return gameId; }
 
-    public PolywordicWord getTargetWord() { return targetWord; }
+    public PolywordicWord getTargetWord() { return new PolywordicWord(targetWord); }
 
-    public String getTargetWordString() { return targetWord.getWord();}
+    public String getTargetWordString() { return targetWord;}
 
     public int getMaxAttempts() { return maxAttempts;}
 
-    public int getCurrentAttempt() { return guesses.size(); }
+    public int getCurrentAttempt() { return record.guessCount(); }
+
+    public int getRemainingAttempts() { return maxAttempts - record.guessCount(); }
 
-    public int getRemainingAttempts() { return maxAttempts - guesses.size(); }
+    // Observer registration; must happen before the game is published to other threads (e.g. put in a game store)
+    public void setGuessListener(IGuessListener guessListener) { this.guessListener = guessListener; }
 
-    public List<PolywordicWord> getGuesses() { return new ArrayList<>(guesses);}
+    // The lock every guess holds while it is applied; a store holds it to finish publishing a game before any guess
+    public Lock getGuessLock() { return record.lock(); }
+
+    // Copies the packed guesses (word code << 8 | feedback pattern code), in guess order, into packedGuesses (at least
+    // maxAttempts long). Taken under the game's lock, so the copy is a consistent point-in-time view of the game.
+    // Returns the number of guesses copied.
+    public int getPackedGuesses(int[] packedGuesses) {
+        Lock lock = record.lock();
+        lock.lock();
+        try {
+            int guessCount = record.guessCount();
+            for (int i = 0; i < guessCount; i++) {
+                packedGuesses[i] = record.packedGuess(i);
+            }
+            return guessCount;
+        } finally {
+            lock.unlock();
+        }
+    }
 
-    void addGuess(PolywordicWord guess) { guesses.add(guess); }
+    // Rebuilds a game from its packed guesses (see getPackedGuesses) without re-scoring them, e.g. from a snapshot.
+    // stateCode is STATE_ACTIVE, STATE_WON or STATE_LOST.
+    public static GameStateContext restore(String gameId, String targetWord, int maxAttempts, IFeedbackEvaluator feedbackEvaluator,
+                                           int[] packedGuesses, int guessCount, byte stateCode) {
+        if (guessCount < 0 || guessCount > maxAttempts) {
+            throw new IllegalArgumentException("Guess count " + guessCount + " outside 0.." + maxAttempts);
+        }
+        if (stateCode != STATE_ACTIVE && stateCode != STATE_WON && stateCode != STATE_LOST) {
+            throw new IllegalArgumentException("Unknown game state code: " + stateCode);
+        }
+        HeapGameRecord record = new HeapGameRecord(maxAttempts);
+        long keyboard = 0;
+        for (int i = 0; i < guessCount; i++) {
+            int packed = packedGuesses[i];
+            keyboard = KeyboardState.applyGuess(keyboard, packed >>> PATTERN_BITS, patternOf(packed));
+            record.addGuess(packed, keyboard);
+        }
+        record.setStateCode(stateCode);
+        return new GameStateContext(gameId, targetWord, maxAttempts, feedbackEvaluator, record);
+    }
 
-    void setState(IGameState state) { this.currentState = state; }
+    // Rebuilds guess words (with letter statuses) from the packed guess history
+    public List<PolywordicWord> getGuesses() {
+        Lock lock = record.lock();
+        lock.lock();
+        try {
+            int guessCount = record.guessCount();
+            List<PolywordicWord> words = new ArrayList<>(guessCount);
+            for (int i = 0; i < guessCount; i++) {
+                int packed = record.packedGuess(i);
+                PolywordicWord word = new PolywordicWord(WordCodec.decode(packed >>> PATTERN_BITS));
+                word.applyPattern(patternOf(packed));
+                words.add(word);
+            }
+            return words;
+        } finally {
+            lock.unlock();
+        }
+    }
 
-    public IGameState getCurrentState() { return currentState; }
+    // Guess history as immutable GuessResults, without rebuilding PolywordicWord objects; in a finished game the last
+    // guess is the one that ended it
+    public List<GuessResult> getGuessResults() {
+        Lock lock = record.lock();
+        lock.lock();
+        try {
+            int guessCount = record.guessCount();
+            boolean over = record.stateCode() != STATE_ACTIVE;
+            List<GuessResult> results = new ArrayList<>(guessCount);
+            for (int i = 0; i < guessCount; i++) {
+                int packed = record.packedGuess(i);
+                results.add(new GuessResult(DictionaryWord.decode(packed >>> PATTERN_BITS), patternOf(packed),
+                        over && i == guessCount - 1));
+            }
+            return results;
+        } finally {
+            lock.unlock();
+        }
+    }
 
-    // Delegate behaviors to IGameState object
-    public PolywordicWord makeGuess(String guess) {
-        return currentState.handle(this, guess);
+    public List<FeedbackPattern> getGuessPatterns() {
+        Lock lock = record.lock();
+        lock.lock();
+        try {
+            int guessCount = record.guessCount();
+            List<FeedbackPattern> patterns = new ArrayList<>(guessCount);
+            for (int i = 0; i < guessCount; i++) {
+                patterns.add(patternOf(record.packedGuess(i)));
+            }
+            return patterns;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public boolean isGameOver() { return currentState.isGameOver(); }
+    private static FeedbackPattern patternOf(int packedGuess) {
+        return FeedbackPattern.of(packedGuess & PATTERN_MASK);
+    }
 
-    public boolean isWon() { return currentState.gameWon(); }
+    // Scores a guess against this game's target word
+    FeedbackPattern evaluate(DictionaryWord guess) {
+        return feedbackEvaluator.evaluate(targetWord, targetRank, guess);
+    }
 
-    public String getStateName() { return currentState.getStateName(); }
+    // Appends a guess and returns it packed. The listener (e.g. the journal) runs first, so if it fails the guess is
+    // not applied and the exception reaches the caller with the game unchanged.
+    int addGuess(int wordCode, FeedbackPattern pattern) {
+        int attempt = record.guessCount();
+        int packedGuess = (wordCode << PATTERN_BITS) | pattern.getCode();
+        guessListener.guessAdded(this, attempt, wordCode);
+        record.addGuess(packedGuess, KeyboardState.applyGuess(record.keyboardBits(), wordCode, pattern));
+        return packedGuess;
+    }
 
-    // aggregate letter status across all guesses (use for updating keyboard display)
-    public Map<Character, LetterStatus> getAggregateLetterStatuses() {
-        Map<Character, LetterStatus> statusMap = new HashMap<>();
+    void setState(IGameState state) {
+        record.setStateCode(state.getStateCode());
+    }
+
+    public IGameState getCurrentState() {
+        return STATES[record.stateCode()];
+    }
+
+    public byte getStateCode() { return record.stateCode(); }
 
-        for (char c = 'A'; c <= 'Z'; c++) {
-            statusMap.put(c, LetterStatus.UNKNOWN);
+    // Delegate behaviors to IGameState object
+    // Holding the per-game lock makes the attempt check, guess append and state transition atomic,
+    // so racing requests for the same game can't push the guess list past maxAttempts. The result records whether
+    // this guess ended the game (only an active game accepts a guess, so any state change here is a transition);
+    // callers use that rather than checking isGameOver after the lock is released, when another guess may have landed.
+    public GuessResult makeGuess(DictionaryWord guess) {
+        Lock lock = record.lock();
+        lock.lock();
+        try {
+            int packedGuess = getCurrentState().handle(this, guess);
+            return new GuessResult(guess, patternOf(packedGuess), record.stateCode() != STATE_ACTIVE);
+        } finally {
+            lock.unlock();
         }
+    }
+
+    // Any 5 letters A-Z (case-insensitive), dictionary word or not; the service validates against the dictionary and
+    // passes its shared DictionaryWord instead
+    public GuessResult makeGuess(String guess) {
+        return makeGuess(DictionaryWord.of(guess));
+    }
 
-        // Iterate through all guessed words and update letter statuses
-        for (PolywordicWord guess : guesses) {
-            PolywordicWordIterator iterator = guess.createIterator(); // Iterator Pattern
-            while (iterator.hasNext()) {
-                PolywordicLetter letter = iterator.next();
-                char c = letter.getLetter();
-                LetterStatus currentStatus = statusMap.get(c);
-                LetterStatus newStatus = letter.getStatus();
-
-                // Update if new status is better (higher priority)
-                if (letter.shouldUpdateStatus(currentStatus, newStatus)) {
-                    statusMap.put(c, newStatus);
+    // Batch form of makeGuess: applies guesses in order under a single lock acquisition, so no other request can
+    // interleave with the batch. Writes one entry per processed guess to results - its feedback pattern code
+    // (0..242), or REJECTED_GUESS if lookup returns null for it (rejected guesses don't use an attempt) - and stops
+    // at the first guess that ends the game, whose entry also has the ENDED_GAME bit set (decided under the lock, like
+    // GuessResult.endedGame). Returns the number of entries written.
+    public int makeGuesses(List<String> guessWords, Function<String, DictionaryWord> lookup, int[] results) {
+        Lock lock = record.lock();
+        lock.lock();
+        try {
+            int count = 0;
+            for (int i = 0; i < guessWords.size(); i++) { // indexed, so a batch allocates no iterator
+                String guess = guessWords.get(i);
+                IGameState state = getCurrentState();
+                if (state.isGameOver()) {
+                    break;
                 }
+                DictionaryWord word = lookup.apply(guess);
+                if (word == null) {
+                    results[count++] = REJECTED_GUESS;
+                    continue;
+                }
+                int patternCode = state.handle(this, word) & PATTERN_MASK;
+                results[count++] = record.stateCode() == STATE_ACTIVE ? patternCode : patternCode | ENDED_GAME;
             }
+            return count;
+        } finally {
+            lock.unlock();
         }
+    }
+
+    public boolean isGameOver() { return getCurrentState().isGameOver(); }
 
-        return statusMap;
+    public boolean isWon() { return getCurrentState().gameWon(); }
+
+    public String getStateName() { return getCurrentState().getStateName(); }
+
+    // aggregate letter status across all guesses (use for updating keyboard display)
+    // maintained incrementally as guesses are applied, so reading it is O(1) in the number of guesses
+    public KeyboardState getKeyboardState() {
+        return KeyboardState.of(record.keyboardBits());
+    }
+
+    public Map<Character, LetterStatus> getAggregateLetterStatuses() {
+        return getKeyboardState().toMap();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.ooad_kd_yz.polywordic.state;
+
+// Default IGameRecord: one game's changing state in ordinary heap fields, owned by a single GameStateContext.
+// guessCount is written last (volatile), so a reader that sees a count also sees the guesses before it.
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class HeapGameRecord implements IGameRecord {
+    private final int[] guesses;
+    private volatile int guessCount;
+    private volatile long keyboardBits;
+    private volatile byte stateCode = GameStateContext.STATE_ACTIVE;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    HeapGameRecord(int maxAttempts) {
+        this.guesses = new int[maxAttempts];
+    }
+
+    @Override
+    public Lock lock() { return lock; }
+
+    @Override
+    public int guessCount() { return guessCount; }
+
+    @Override
+    public int packedGuess(int attempt) { return guesses[attempt]; }
+
+    @Override
+    public long keyboardBits() { return keyboardBits; }
+
+    @Override
+    public byte stateCode() { return stateCode; }
+
+    @Override
+    public void addGuess(int packedGuess, long keyboardBits) {
+        guesses[guessCount] = packedGuess;
+        this.keyboardBits = keyboardBits;
+        guessCount++;
+    }
+
+    @Override
+    public void setStateCode(byte stateCode) { this.stateCode = stateCode; }
+}
@@ -0,0 +1,26 @@
+package com.ooad_kd_yz.polywordic.state;
+
+// Flyweight Pattern - Extrinsic State
+// The part of a game that changes as it is played: packed guesses, keyboard bits and state code, plus the lock that
+// serializes guesses. GameStateContext keeps the fixed part (ID, target, max attempts) and reads and writes the rest
+// through a record, so the same context code runs over a heap record or over a slot in an off-heap game store.
+// Mutators are only called while lock() is held; getters may be called without it and see the latest written value.
+
+import java.util.concurrent.locks.Lock;
+
+public interface IGameRecord {
+    Lock lock();
+
+    int guessCount();
+
+    int packedGuess(int attempt); // word code << 8 | feedback pattern code, for 0 <= attempt < guessCount()
+
+    long keyboardBits(); // KeyboardState bits
+
+    byte stateCode(); // GameStateContext.STATE_ACTIVE, STATE_WON or STATE_LOST
+
+    // Stores packedGuess at index guessCount() with the updated keyboard bits, then increments guessCount()
+    void addGuess(int packedGuess, long keyboardBits);
+
+    void setStateCode(byte stateCode);
+}
@@ -1,16 +1,20 @@
 package com.ooad_kd_yz.polywordic.state;
 
 // State Pattern - State Interface for Polywordic Game States
+// States are stateless singletons (each class's INSTANCE); a game keeps only its state's one-byte code, so a
+// transition stores a byte and allocates nothing.
 
-import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
 
 public interface IGameState {
-    // handle
-    PolywordicWord handle(GameStateContext context, String guess);
+    // handle: applies one (already validated) guess and returns it packed as (word code << 8 | feedback pattern code)
+    int handle(GameStateContext context, DictionaryWord guess);
 
     boolean isGameOver();
 
     boolean gameWon();
 
     String getStateName();
+
+    byte getStateCode(); // GameStateContext.STATE_ACTIVE, STATE_WON or STATE_LOST
 }
@@ -0,0 +1,13 @@
+package com.ooad_kd_yz.polywordic.state;
+
+// Observer Pattern - Observer
+// Notified each time a guess is applied to a game, just before the game changes. Called while the game's lock is held,
+// so a listener sees each game's guesses in the order they were made; implementations must be quick and must not call
+// back into the game. A listener that throws rejects the guess: the game is left as it was.
+
+@FunctionalInterface
+public interface IGuessListener {
+    IGuessListener NONE = (game, attempt, wordCode) -> { };
+
+    void guessAdded(GameStateContext game, int attempt, int wordCode); // attempt is 0-based, wordCode per WordCodec
+}
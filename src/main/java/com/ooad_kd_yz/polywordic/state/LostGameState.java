@@ -3,14 +3,18 @@ package com.ooad_kd_yz.polywordic.state;
 // State Pattern - Concrete State Object
 // In LostGameState, a player has exhausted all attempts without guessing the word correctly.
 
-import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+
+public final class LostGameState implements IGameState {
+    public static final LostGameState INSTANCE = new LostGameState();
+
+    private LostGameState() {}
 
-public class LostGameState implements IGameState {
     @Override
-    public PolywordicWord handle(GameStateContext context, String guess) {
+    public int handle(GameStateContext context, DictionaryWord guess) {
         throw new IllegalStateException(
                 "Game is over! You've used all your guesses. The word was: " +
-                        context.getTargetWord().getWord()
+                        context.getTargetWordString()
         );
     }
 
@@ -22,4 +26,7 @@ public class LostGameState implements IGameState {
 
     @Override
     public String getStateName() {return "LOST";}
+
+    @Override
+    public byte getStateCode() {return GameStateContext.STATE_LOST;}
 }
@@ -3,11 +3,15 @@ package com.ooad_kd_yz.polywordic.state;
 // State Pattern - Concrete State Object
 // In WonGameState, a player has successfully guessed the word and no more guesses are allowed.
 
-import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+
+public final class WonGameState implements IGameState {
+    public static final WonGameState INSTANCE = new WonGameState();
+
+    private WonGameState() {}
 
-public class WonGameState implements IGameState {
     @Override
-    public PolywordicWord handle(GameStateContext context, String guess) {
+    public int handle(GameStateContext context, DictionaryWord guess) {
         throw new IllegalStateException(
                 "Game is already won! No more guesses allowed."
         );
@@ -21,4 +25,7 @@ public class WonGameState implements IGameState {
 
     @Override
     public String getStateName() {return "WON";}
+
+    @Override
+    public byte getStateCode() {return GameStateContext.STATE_WON;}
 }
@@ -0,0 +1,204 @@
+package com.ooad_kd_yz.polywordic.store;
+
+// Fixed-size game records in direct (off-heap) ByteBuffers, for OffHeapGameStore. Each slot is RECORD_BYTES:
+//    0  key (8)                 game key owning the slot, or FREE_KEY
+//    8  keyboard bits (8)       KeyboardState bits
+//   16  target word code (4)    WordCodec code
+//   20  last access (4)         seconds since the arena was created, for idle expiry
+//   24  guesses (MAX_GUESSES x 4)  word code << 8 | feedback pattern code, as GameStateContext packs them
+//   48  meta (4)                guess count | max attempts << 8 | state code << 16
+// Slots are handed out from pages of PAGE_SLOTS, allocated as games arrive up to the capacity, and deleted slots go on a
+// free list that is reused before any new slot. allocate/free are called under the store's index lock; guesses go
+// through a slot's IGameRecord under one of LOCK_STRIPES striped locks. Fields read outside those locks (meta, keyboard
+// bits, last access) are read and written with volatile VarHandle accesses, so views on different threads agree.
+
+import com.ooad_kd_yz.polywordic.state.IGameRecord;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class GameArena {
+    static final int MAX_GUESSES = 6;
+    static final int RECORD_BYTES = 56; // 52 used, padded so every slot stays 8-byte aligned
+    static final long FREE_KEY = Long.MIN_VALUE;
+
+    private static final int KEY = 0;
+    private static final int KEYBOARD = 8;
+    private static final int TARGET = 16;
+    private static final int LAST_ACCESS = 20;
+    private static final int GUESSES = 24;
+    private static final int META = GUESSES + MAX_GUESSES * Integer.BYTES;
+
+    private static final int PAGE_SHIFT = 16;
+    private static final int PAGE_SLOTS = 1 << PAGE_SHIFT; // 3.5 MB per page
+    private static final int LOCK_STRIPES = 1024;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final int capacity;
+    private final ByteBuffer[] pages;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+    private int nextSlot; // slots below this have been handed out at least once
+
+    GameArena(int capacity) {
+        this.capacity = capacity;
+        this.pages = new ByteBuffer[(capacity + PAGE_SLOTS - 1) >>> PAGE_SHIFT];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    // Slots ever handed out; slots at or above this are untouched
+    int highWater() {
+        return nextSlot;
+    }
+
+    // Returns a free slot (reusing deleted slots first), or -1 if all capacity slots are in use
+    int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (nextSlot == capacity) {
+            return -1;
+        }
+        int page = nextSlot >>> PAGE_SHIFT;
+        if (pages[page] == null) {
+            int slots = Math.min(PAGE_SLOTS, capacity - (page << PAGE_SHIFT));
+            // aligned so volatile long/int accesses are allowed on every field
+            pages[page] = ByteBuffer.allocateDirect(slots * RECORD_BYTES + Long.BYTES).alignedSlice(Long.BYTES);
+        }
+        return nextSlot++;
+    }
+
+    void free(int slot) {
+        LONG.setVolatile(page(slot), offset(slot) + KEY, FREE_KEY);
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    Lock lock(int slot) {
+        return locks[slot & (LOCK_STRIPES - 1)];
+    }
+
+    // Writes a whole record; call with the slot's lock held
+    void write(int slot, long key, int targetCode, int maxAttempts, int[] packedGuesses, int guessCount,
+               long keyboardBits, byte stateCode, int now) {
+        ByteBuffer page = page(slot);
+        int offset = offset(slot);
+        for (int i = 0; i < guessCount; i++) {
+            page.putInt(offset + GUESSES + i * Integer.BYTES, packedGuesses[i]);
+        }
+        page.putInt(offset + TARGET, targetCode);
+        LONG.setVolatile(page, offset + KEYBOARD, keyboardBits);
+        INT.setVolatile(page, offset + LAST_ACCESS, now);
+        INT.setVolatile(page, offset + META, guessCount | maxAttempts << 8 | (stateCode & 0xFF) << 16);
+        LONG.setVolatile(page, offset + KEY, key);
+    }
+
+    long key(int slot) {
+        return (long) LONG.getVolatile(page(slot), offset(slot) + KEY);
+    }
+
+    int targetCode(int slot) {
+        return page(slot).getInt(offset(slot) + TARGET);
+    }
+
+    int maxAttempts(int slot) {
+        return (meta(slot) >>> 8) & 0xFF;
+    }
+
+    int lastAccess(int slot) {
+        return (int) INT.getVolatile(page(slot), offset(slot) + LAST_ACCESS);
+    }
+
+    void touch(int slot, int now) {
+        INT.setVolatile(page(slot), offset(slot) + LAST_ACCESS, now);
+    }
+
+    private int meta(int slot) {
+        return (int) INT.getVolatile(page(slot), offset(slot) + META);
+    }
+
+    private ByteBuffer page(int slot) {
+        return pages[slot >>> PAGE_SHIFT];
+    }
+
+    private static int offset(int slot) {
+        return (slot & (PAGE_SLOTS - 1)) * RECORD_BYTES;
+    }
+
+    // View of the slot as owned by key. Once the game is removed (and the slot possibly reused by another game),
+    // guesses through the view are rejected rather than applied to whichever game holds the slot now.
+    IGameRecord record(int slot, long key) {
+        return new SlotRecord(page(slot), offset(slot), lock(slot), key);
+    }
+
+    private static final class SlotRecord implements IGameRecord {
+        private final ByteBuffer page;
+        private final int offset;
+        private final Lock lock;
+        private final long key;
+
+        SlotRecord(ByteBuffer page, int offset, Lock lock, long key) {
+            this.page = page;
+            this.offset = offset;
+            this.lock = lock;
+            this.key = key;
+        }
+
+        @Override
+        public Lock lock() { return lock; }
+
+        @Override
+        public int guessCount() { return meta() & 0xFF; }
+
+        @Override
+        public int packedGuess(int attempt) { return page.getInt(offset + GUESSES + attempt * Integer.BYTES); }
+
+        @Override
+        public long keyboardBits() { return (long) LONG.getVolatile(page, offset + KEYBOARD); }
+
+        @Override
+        public byte stateCode() { return (byte) (meta() >>> 16); }
+
+        @Override
+        public void addGuess(int packedGuess, long keyboardBits) {
+            checkOwner();
+            int meta = meta();
+            int guessCount = meta & 0xFF;
+            page.putInt(offset + GUESSES + guessCount * Integer.BYTES, packedGuess);
+            LONG.setVolatile(page, offset + KEYBOARD, keyboardBits);
+            INT.setVolatile(page, offset + META, meta + 1); // publishes the guess written above
+        }
+
+        @Override
+        public void setStateCode(byte stateCode) {
+            checkOwner();
+            INT.setVolatile(page, offset + META, (meta() & 0xFFFF) | (stateCode & 0xFF) << 16);
+        }
+
+        private int meta() {
+            return (int) INT.getVolatile(page, offset + META);
+        }
+
+        private void checkOwner() {
+            if ((long) LONG.getVolatile(page, offset + KEY) != key) {
+                throw new IllegalStateException("Game no longer exists");
+            }
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package com.ooad_kd_yz.polywordic.store;
+
+// Append-only log of game changes (create, guess, delete) for JournaledGameStore.
+// Records are framed as [payload length][CRC32C of payload][payload], so recovery can stop cleanly at a torn or
+// corrupt tail left by a crash. Each record is idempotent to replay (see JournaledGameStore.Replay), which lets a
+// snapshot be taken while games keep changing.
+//
+// Group commit: appends only copy the record into an in-memory buffer; a single writer thread writes whatever has
+// accumulated and fsyncs it in one go. While that fsync is in progress new records fill the other buffer, so under
+// load one fsync covers many requests. sync() blocks until everything appended before it is on disk.
+//
+// The log is split into numbered segment files; rotate() starts a new segment so older ones can be dropped once a
+// snapshot covers them. The directory is forced as soon as a segment is created, so a sync() covering a segment's
+// first records also covers the segment's directory entry.
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+final class GameJournal implements Closeable {
+    static final byte CREATE = 1;
+    static final byte GUESS = 2;
+    static final byte DELETE = 3;
+
+    static final int HEADER_BYTES = 2 * Integer.BYTES; // payload length, CRC32C of payload
+    static final int MAX_GAME_ID_BYTES = 255;
+    // largest payload is a create: type, key, max attempts, target word code, game ID length + game ID
+    static final int MAX_PAYLOAD_BYTES = 1 + Long.BYTES + 1 + Integer.BYTES + 1 + MAX_GAME_ID_BYTES;
+    static final int MAX_RECORD_BYTES = HEADER_BYTES + MAX_PAYLOAD_BYTES;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    // Lock order: writeLock before lock. writeLock is held while a batch is written and forced (and while the
+    // segment is switched); lock guards the buffers and positions and is only ever held briefly.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pending = lock.newCondition(); // records are waiting for the writer
+    private final Condition forcedChanged = lock.newCondition(); // a batch was forced, or the journal failed/closed
+    private final CRC32C crc = new CRC32C(); // used under lock
+    private final Path directory;
+    private final Thread writer;
+
+    private ByteBuffer filling = ByteBuffer.allocate(BUFFER_BYTES); // appends go here
+    private ByteBuffer draining = ByteBuffer.allocate(BUFFER_BYTES); // being written by the writer
+    private long appended; // bytes appended since the journal was opened
+    private long forced; // bytes written and forced to disk
+    private long segment;
+    private FileChannel channel;
+    private IOException failure;
+    private boolean closed;
+
+    GameJournal(Path directory, long segment) throws IOException {
+        this.directory = directory;
+        this.segment = segment;
+        this.channel = open(directory, segment);
+        this.writer = new Thread(this::runWriter, "polywordic-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    static Path segmentFile(Path directory, long segment) {
+        return directory.resolve(String.format("segment-%010d.log", segment));
+    }
+
+    private static FileChannel open(Path directory, long segment) throws IOException {
+        FileChannel channel = FileChannel.open(segmentFile(directory, segment), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        try {
+            GameSnapshot.forceDirectory(directory);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    long segment() {
+        lock.lock();
+        try {
+            return segment;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void appendCreate(long key, String gameId, int maxAttempts, int targetCode) {
+        lock.lock();
+        try {
+            reserve(MAX_RECORD_BYTES);
+            appended += putCreate(filling, crc, key, gameId, maxAttempts, targetCode);
+            pending.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void appendGuess(long key, int attempt, int wordCode) {
+        lock.lock();
+        try {
+            reserve(MAX_RECORD_BYTES);
+            appended += putGuess(filling, crc, key, attempt, wordCode);
+            pending.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void appendDelete(long key) {
+        lock.lock();
+        try {
+            reserve(MAX_RECORD_BYTES);
+            appended += putDelete(filling, crc, key);
+            pending.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Waits (holding lock) until the filling buffer has room; only happens if the disk falls a full buffer behind
+    private void reserve(int bytes) {
+        while (filling.remaining() < bytes) {
+            checkUsable();
+            pending.signal();
+            forcedChanged.awaitUninterruptibly();
+        }
+        checkUsable();
+    }
+
+    private void checkUsable() {
+        if (failure != null) {
+            throw new UncheckedIOException("Game journal failed", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Game journal is closed");
+        }
+    }
+
+    // Blocks until every record appended before this call has been forced to disk
+    void sync() {
+        lock.lock();
+        try {
+            long target = appended;
+            while (forced < target) {
+                checkUsable();
+                pending.signal();
+                forcedChanged.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Forces everything appended so far into the current segment and starts the next one.
+    // Records appended after rotate returns go to the new segment. Returns the new segment number.
+    long rotate() throws IOException {
+        writeLock.lock();
+        try {
+            flush();
+            FileChannel next = open(directory, segment + 1);
+            FileChannel previous;
+            lock.lock();
+            try {
+                previous = channel;
+                channel = next;
+                segment++;
+            } finally {
+                lock.unlock();
+            }
+            previous.close();
+            return segment;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            lock.lock();
+            try {
+                while (filling.position() == 0 && !closed) {
+                    pending.awaitUninterruptibly();
+                }
+                if (closed) {
+                    return; // close() flushes whatever is left
+                }
+            } finally {
+                lock.unlock();
+            }
+            try {
+                flush();
+            } catch (IOException e) {
+                lock.lock();
+                try {
+                    failure = e;
+                    forcedChanged.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+
+    // Swaps the buffers, writes and forces the batch, then wakes everyone waiting in sync()
+    private void flush() throws IOException {
+        writeLock.lock();
+        try {
+            ByteBuffer batch;
+            long end;
+            FileChannel target;
+            lock.lock();
+            try {
+                batch = filling;
+                filling = draining;
+                draining = batch;
+                end = appended;
+                target = channel;
+                forcedChanged.signalAll(); // appenders waiting for room can use the empty buffer now
+            } finally {
+                lock.unlock();
+            }
+            if (batch.position() > 0) {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    target.write(batch);
+                }
+                target.force(false);
+                batch.clear();
+            }
+            lock.lock();
+            try {
+                forced = end;
+                forcedChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            if (failure == null) {
+                flush();
+            }
+        } finally {
+            lock.lock();
+            try {
+                forcedChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            channel.close();
+        }
+    }
+
+    // Record encoding. Each put returns the number of bytes written.
+
+    static int putCreate(ByteBuffer buffer, CRC32C crc, long key, String gameId, int maxAttempts, int targetCode) {
+        if (gameId.length() > MAX_GAME_ID_BYTES) {
+            throw new IllegalArgumentException("Game ID too long to journal: " + gameId);
+        }
+        int start = begin(buffer);
+        buffer.put(CREATE).putLong(key).put((byte) maxAttempts).putInt(targetCode).put((byte) gameId.length());
+        for (int i = 0; i < gameId.length(); i++) {
+            char c = gameId.charAt(i);
+            if (c > 127) {
+                throw new IllegalArgumentException("Game ID must be ASCII to journal: " + gameId);
+            }
+            buffer.put((byte) c);
+        }
+        return end(buffer, crc, start);
+    }
+
+    static int putGuess(ByteBuffer buffer, CRC32C crc, long key, int attempt, int wordCode) {
+        int start = begin(buffer);
+        buffer.put(GUESS).putLong(key).put((byte) attempt).putInt(wordCode);
+        return end(buffer, crc, start);
+    }
+
+    static int putDelete(ByteBuffer buffer, CRC32C crc, long key) {
+        int start = begin(buffer);
+        buffer.put(DELETE).putLong(key);
+        return end(buffer, crc, start);
+    }
+
+    private static int begin(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.position(start + HEADER_BYTES);
+        return start;
+    }
+
+    private static int end(ByteBuffer buffer, CRC32C crc, int start) {
+        int payloadStart = start + HEADER_BYTES;
+        int length = buffer.position() - payloadStart;
+        crc.reset();
+        crc.update(buffer.array(), buffer.arrayOffset() + payloadStart, length);
+        buffer.putInt(start, length).putInt(start + Integer.BYTES, (int) crc.getValue());
+        return HEADER_BYTES + length;
+    }
+
+    // Record decoding
+
+    interface RecordVisitor {
+        void create(long key, String gameId, int maxAttempts, int targetCode);
+
+        void guess(long key, int attempt, int wordCode);
+
+        void delete(long key);
+    }
+
+    // Replays the records of a segment or snapshot file in order. Stops at the end of the file or at the first
+    // incomplete or corrupt record (a write cut short by a crash). Returns the number of records replayed.
+    static long read(Path file, RecordVisitor visitor) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        buffer.flip(); // start empty, in read mode
+        long records = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (true) {
+                if (!fill(channel, buffer, HEADER_BYTES)) {
+                    return records;
+                }
+                int length = buffer.getInt(buffer.position());
+                int checksum = buffer.getInt(buffer.position() + Integer.BYTES);
+                if (length <= 0 || length > MAX_PAYLOAD_BYTES || !fill(channel, buffer, HEADER_BYTES + length)) {
+                    return records;
+                }
+                int payloadStart = buffer.position() + HEADER_BYTES;
+                crc.reset();
+                crc.update(buffer.array(), buffer.arrayOffset() + payloadStart, length);
+                if ((int) crc.getValue() != checksum) {
+                    return records;
+                }
+                ByteBuffer payload = buffer.slice(payloadStart, length);
+                buffer.position(payloadStart + length);
+                if (!visit(payload, visitor)) {
+                    return records;
+                }
+                records++;
+            }
+        }
+    }
+
+    // Makes at least bytes readable in buffer (read mode), reading more of the file as needed
+    private static boolean fill(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    private static boolean visit(ByteBuffer payload, RecordVisitor visitor) {
+        if (payload.remaining() < 1 + Long.BYTES) {
+            return false;
+        }
+        byte type = payload.get();
+        long key = payload.getLong();
+        switch (type) {
+            case CREATE -> {
+                if (payload.remaining() < 1 + Integer.BYTES + 1) {
+                    return false;
+                }
+                int maxAttempts = payload.get();
+                int targetCode = payload.getInt();
+                int idLength = payload.get() & 0xFF;
+                if (payload.remaining() != idLength) {
+                    return false;
+                }
+                byte[] id = new byte[idLength];
+                payload.get(id);
+                visitor.create(key, new String(id, StandardCharsets.US_ASCII), maxAttempts, targetCode);
+            }
+            case GUESS -> {
+                if (payload.remaining() != 1 + Integer.BYTES) {
+                    return false;
+                }
+                int attempt = payload.get();
+                visitor.guess(key, attempt, payload.getInt());
+            }
+            case DELETE -> visitor.delete(key);
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
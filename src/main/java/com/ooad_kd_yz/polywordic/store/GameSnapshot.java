@@ -0,0 +1,259 @@
+package com.ooad_kd_yz.polywordic.store;
+
+// Compact binary snapshot of every live game in an InMemoryGameStore (no Java serialization).
+// File: [magic][version] followed by chunks of up to 4 MB, each [payload bytes][game count][CRC32C][payload].
+// Each game in a payload is:
+//   key (8) | game ID length (1) + ASCII game ID | max attempts (1) | state (1) | guess count (1) | target word (3)
+//   | one packed guess per attempt made (4 each: word code << 8 | feedback pattern code, as GameStateContext stores it)
+// Word codes are WordCodec indices (3 bytes), so a game with an 11-character ID and three guesses takes 38 bytes.
+// Games are restored from their packed guesses without re-scoring, and chunks are decoded in parallel.
+// Snapshots are written to a temporary file and renamed into place, so a reader never sees a partial snapshot; the
+// directory is forced after the rename, so once write returns the new snapshot survives a crash.
+
+import com.ooad_kd_yz.polywordic.model.FeedbackPattern;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.model.WordCodec;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32C;
+
+final class GameSnapshot {
+    private static final int MAGIC = 0x50574753; // "PWGS"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int CHUNK_HEADER_BYTES = 3 * Integer.BYTES; // payload bytes, game count, CRC32C of payload
+    private static final int CHUNK_BYTES = 4 << 20;
+    private static final int MAX_GAME_ID_BYTES = 255;
+
+    private GameSnapshot() {
+    }
+
+    // Writes every game in games to file, replacing it atomically. Returns the number of games written.
+    static long write(Path file, InMemoryGameStore games) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        ChunkWriter writer;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip());
+            writer = new ChunkWriter(channel);
+            try {
+                games.forEach(writer);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finishChunk();
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory(file.toAbsolutePath().getParent());
+        return writer.games;
+    }
+
+    // Forces directory's entries (files created, renamed or deleted in it) to disk. Forcing a file only covers its
+    // contents: without this, a crash can lose a rename or a newly created file even though its data was forced.
+    static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    // Restores every game in file, handing each to sink (called concurrently from several threads).
+    // Returns the number of games restored; throws if the file is not a complete, intact snapshot.
+    static long read(Path file, IFeedbackEvaluator feedbackEvaluator, BiConsumer<Long, GameStateContext> sink)
+            throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Game snapshot too large to map: " + file);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        if (mapped.limit() < FILE_HEADER_BYTES || mapped.getInt(0) != MAGIC || mapped.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Not a game snapshot: " + file);
+        }
+
+        // chunk headers are walked sequentially (cheap), then chunks are decoded in parallel
+        List<Integer> chunkStarts = new ArrayList<>();
+        int position = FILE_HEADER_BYTES;
+        while (position < mapped.limit()) {
+            int payloadBytes = position + CHUNK_HEADER_BYTES <= mapped.limit() ? mapped.getInt(position) : -1;
+            if (payloadBytes < 0 || payloadBytes > mapped.limit() - position - CHUNK_HEADER_BYTES) {
+                throw new IOException("Truncated game snapshot: " + file);
+            }
+            chunkStarts.add(position);
+            position += CHUNK_HEADER_BYTES + payloadBytes;
+        }
+
+        LongAdder restored = new LongAdder();
+        Map<Integer, String> targetWords = new ConcurrentHashMap<>(); // one String per target word, not per game
+        try {
+            chunkStarts.parallelStream().forEach(start ->
+                    restored.add(readChunk(mapped, start, feedbackEvaluator, targetWords, sink)));
+        } catch (UncheckedIOException e) {
+            throw new IOException("Corrupt game snapshot: " + file, e.getCause());
+        }
+        return restored.sum();
+    }
+
+    private static int readChunk(ByteBuffer mapped, int start, IFeedbackEvaluator feedbackEvaluator,
+                                 Map<Integer, String> targetWords, BiConsumer<Long, GameStateContext> sink) {
+        int payloadBytes = mapped.getInt(start);
+        int games = mapped.getInt(start + Integer.BYTES);
+        int checksum = mapped.getInt(start + 2 * Integer.BYTES);
+        ByteBuffer chunk = mapped.slice(start + CHUNK_HEADER_BYTES, payloadBytes);
+
+        CRC32C crc = new CRC32C();
+        crc.update(chunk.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new UncheckedIOException(new IOException("Checksum mismatch in chunk at " + start));
+        }
+
+        byte[] gameId = new byte[MAX_GAME_ID_BYTES];
+        int[] packedGuesses = new int[8];
+        for (int i = 0; i < games; i++) {
+            long key = chunk.getLong();
+            int idLength = chunk.get() & 0xFF;
+            chunk.get(gameId, 0, idLength);
+            int maxAttempts = chunk.get() & 0xFF;
+            byte state = chunk.get();
+            int guessCount = chunk.get() & 0xFF;
+            int targetCode = getWordCode(chunk);
+            if (packedGuesses.length < guessCount) {
+                packedGuesses = new int[guessCount];
+            }
+            for (int attempt = 0; attempt < guessCount; attempt++) {
+                packedGuesses[attempt] = chunk.getInt();
+            }
+            String targetWord = targetWords.computeIfAbsent(targetCode, WordCodec::decode);
+            sink.accept(key, GameStateContext.restore(new String(gameId, 0, idLength, StandardCharsets.US_ASCII),
+                    targetWord, maxAttempts, feedbackEvaluator, packedGuesses, guessCount, state));
+        }
+        return games;
+    }
+
+    private static final class ChunkWriter implements BiConsumer<Long, GameStateContext> {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_BYTES);
+        private final CRC32C crc = new CRC32C();
+        private int[] packedGuesses = new int[8];
+        private int chunkGames;
+        private long games;
+
+        ChunkWriter(FileChannel channel) {
+            this.channel = channel;
+            buffer.position(CHUNK_HEADER_BYTES);
+        }
+
+        @Override
+        public void accept(Long key, GameStateContext game) {
+            int maxAttempts = game.getMaxAttempts();
+            if (packedGuesses.length < maxAttempts) {
+                packedGuesses = new int[maxAttempts];
+            }
+            int guessCount = game.getPackedGuesses(packedGuesses);
+            String gameId = game.getGameId();
+            if (gameId.length() > MAX_GAME_ID_BYTES) {
+                throw new IllegalArgumentException("Game ID too long to snapshot: " + gameId);
+            }
+
+            int bytes = Long.BYTES + 1 + gameId.length() + 3 + 3 + guessCount * Integer.BYTES;
+            if (buffer.remaining() < bytes) {
+                try {
+                    finishChunk();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            buffer.putLong(key).put((byte) gameId.length());
+            for (int i = 0; i < gameId.length(); i++) {
+                char c = gameId.charAt(i);
+                if (c > 127) {
+                    throw new IllegalArgumentException("Game ID must be ASCII to snapshot: " + gameId);
+                }
+                buffer.put((byte) c);
+            }
+            buffer.put((byte) maxAttempts).put(stateOf(packedGuesses, guessCount, maxAttempts)).put((byte) guessCount);
+            putWordCode(buffer, WordCodec.encode(game.getTargetWordString()));
+            for (int attempt = 0; attempt < guessCount; attempt++) {
+                buffer.putInt(packedGuesses[attempt]);
+            }
+            chunkGames++;
+        }
+
+        void finishChunk() throws IOException {
+            if (chunkGames == 0) {
+                return;
+            }
+            int payloadBytes = buffer.position() - CHUNK_HEADER_BYTES;
+            crc.reset();
+            crc.update(buffer.array(), CHUNK_HEADER_BYTES, payloadBytes);
+            buffer.putInt(0, payloadBytes).putInt(Integer.BYTES, chunkGames).putInt(2 * Integer.BYTES, (int) crc.getValue());
+            writeFully(channel, buffer.flip());
+            buffer.clear().position(CHUNK_HEADER_BYTES);
+            games += chunkGames;
+            chunkGames = 0;
+        }
+    }
+
+    // State as of the copied guesses (read together under the game's lock), rather than a separate read of the game
+    private static byte stateOf(int[] packedGuesses, int guessCount, int maxAttempts) {
+        if (guessCount > 0 && FeedbackPattern.of(packedGuesses[guessCount - 1] & 0xFF).isSolved()) {
+            return GameStateContext.STATE_WON;
+        }
+        return guessCount >= maxAttempts ? GameStateContext.STATE_LOST : GameStateContext.STATE_ACTIVE;
+    }
+
+    private static void putWordCode(ByteBuffer buffer, int code) {
+        buffer.put((byte) (code >>> 16)).put((byte) (code >>> 8)).put((byte) code);
+    }
+
+    private static int getWordCode(ByteBuffer buffer) {
+        return (buffer.get() & 0xFF) << 16 | (buffer.get() & 0xFF) << 8 | (buffer.get() & 0xFF);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // Runs task every interval on its own daemon thread; returns null (nothing scheduled) if interval is not positive
+    static ScheduledExecutorService scheduleEvery(Duration interval, String threadName, Runnable task) {
+        if (interval.isZero() || interval.isNegative()) {
+            return null;
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(task, millis, millis, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+}
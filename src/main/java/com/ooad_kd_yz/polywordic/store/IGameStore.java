@@ -0,0 +1,28 @@
+package com.ooad_kd_yz.polywordic.store;
+
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+
+// Storage abstraction for active games, keyed by the 64-bit game key (see IGameIdGenerator; clients only see its string form).
+// Implementations must be safe to call concurrently from multiple request threads.
+
+public interface IGameStore {
+    void put(long gameId, GameStateContext game);
+
+    GameStateContext get(long gameId); // returns null if no game exists for gameId
+
+    GameStateContext remove(long gameId); // returns removed game, or null if none existed
+
+    boolean contains(long gameId);
+
+    int size();
+
+    // Blocks until every change made so far is durable. Called by the service before it answers a request that
+    // changed games, so a store can batch many changes into one disk sync. No-op for stores that don't persist.
+    default void sync() { }
+
+    // Number of games removed automatically because the store was at capacity
+    default long getEvictedCount() { return 0; }
+
+    // Number of games removed automatically because they were idle for too long
+    default long getExpiredCount() { return 0; }
+}
@@ -0,0 +1,196 @@
+package com.ooad_kd_yz.polywordic.store;
+
+// Default in-memory implementation of IGameStore backed by a Caffeine cache (a ConcurrentHashMap underneath),
+// so concurrent creates/lookups/deletes from different request threads never corrupt the table or block each other.
+// Games are evicted automatically when:
+//  - they have not been read or guessed on for polywordic.games.idle-timeout (time-to-idle), or
+//  - the store holds more than polywordic.games.max-capacity games (W-TinyLFU size eviction, keeps the most active games)
+// Keys are the numeric game keys, a 16-byte boxed Long per entry rather than a ~56-byte String, and hash/equals
+// compare a single long instead of walking characters.
+// With polywordic.games.snapshot-file set, live games are written to that file as a GameSnapshot every
+// polywordic.games.snapshot-interval and on shutdown (Spring closes the store on SIGTERM), and restored from it on startup.
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@ConditionalOnProperty(name = "polywordic.games.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryGameStore implements IGameStore, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(InMemoryGameStore.class);
+    // Pre-size the table so the first wave of games doesn't trigger repeated resizes;
+    // the table still grows incrementally beyond this as the number of live games grows into the millions.
+    static final int DEFAULT_INITIAL_CAPACITY = 1 << 16;
+    static final long DEFAULT_MAX_CAPACITY = 1_000_000;
+    static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final Cache<Long, GameStateContext> games;
+    private final LongAdder evictedCount = new LongAdder(); // removed because the store was full
+    private final LongAdder expiredCount = new LongAdder(); // removed because the game was idle too long
+    private final Path snapshotFile; // null when snapshots are off
+    private final ScheduledExecutorService snapshotScheduler; // null unless periodic snapshots are on
+    private final ReentrantLock snapshotLock = new ReentrantLock(); // one snapshot at a time (they share the .tmp file)
+
+    public InMemoryGameStore() {
+        this(DEFAULT_MAX_CAPACITY, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public InMemoryGameStore(long maxCapacity, Duration idleTimeout) {
+        // system scheduler acts as the background sweeper, so idle games expire promptly even without store traffic
+        this(maxCapacity, idleTimeout, Ticker.systemTicker(), Scheduler.systemScheduler());
+    }
+
+    @Autowired
+    public InMemoryGameStore(@Value("${polywordic.games.max-capacity:1000000}") long maxCapacity,
+                             @Value("${polywordic.games.idle-timeout:30m}") Duration idleTimeout,
+                             @Value("${polywordic.games.snapshot-file:}") String snapshotFile,
+                             @Value("${polywordic.games.snapshot-interval:5m}") Duration snapshotInterval,
+                             IFeedbackEvaluator feedbackEvaluator) {
+        this(maxCapacity, idleTimeout, Ticker.systemTicker(), Scheduler.systemScheduler(), gameId -> { },
+                snapshotFile.isBlank() ? null : Path.of(snapshotFile), snapshotInterval, feedbackEvaluator);
+    }
+
+    InMemoryGameStore(long maxCapacity, Duration idleTimeout, Ticker ticker, Scheduler scheduler) {
+        this(maxCapacity, idleTimeout, ticker, scheduler, gameId -> { });
+    }
+
+    // onEvicted is told the key of every game removed automatically (expired or evicted), not of explicit removes
+    InMemoryGameStore(long maxCapacity, Duration idleTimeout, Ticker ticker, Scheduler scheduler, LongConsumer onEvicted) {
+        this(maxCapacity, idleTimeout, ticker, scheduler, onEvicted, null, Duration.ZERO, IFeedbackEvaluator.COMPUTED);
+    }
+
+    InMemoryGameStore(long maxCapacity, Duration idleTimeout, Ticker ticker, Scheduler scheduler, LongConsumer onEvicted,
+                      Path snapshotFile, Duration snapshotInterval, IFeedbackEvaluator feedbackEvaluator) {
+        this.games = Caffeine.newBuilder()
+                .initialCapacity((int) Math.min(DEFAULT_INITIAL_CAPACITY, maxCapacity))
+                .maximumSize(maxCapacity)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .scheduler(scheduler)
+                .evictionListener((Long gameId, GameStateContext game, RemovalCause cause) -> {
+                    recordEviction(cause);
+                    onEvicted.accept(gameId);
+                })
+                .build();
+        this.snapshotFile = snapshotFile;
+        if (snapshotFile != null && Files.exists(snapshotFile)) {
+            restoreSnapshot(snapshotFile, feedbackEvaluator);
+        }
+        this.snapshotScheduler = snapshotFile == null ? null
+                : GameSnapshot.scheduleEvery(snapshotInterval, "polywordic-snapshot", this::scheduledSnapshot);
+    }
+
+    private void restoreSnapshot(Path file, IFeedbackEvaluator feedbackEvaluator) {
+        try {
+            long start = System.nanoTime();
+            long restored = GameSnapshot.read(file, feedbackEvaluator, games::put);
+            log.info("Restored {} games from {} in {} ms", restored, file,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (IOException e) {
+            log.error("Failed to restore games from snapshot {}, starting empty", file, e);
+        }
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            writeSnapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write game snapshot", e);
+        }
+    }
+
+    private void recordEviction(RemovalCause cause) {
+        if (cause == RemovalCause.EXPIRED) {
+            expiredCount.increment();
+        } else if (cause == RemovalCause.SIZE) {
+            evictedCount.increment();
+        }
+    }
+
+    @Override
+    public void put(long gameId, GameStateContext game) {
+        games.put(gameId, game);
+    }
+
+    @Override
+    public GameStateContext get(long gameId) {
+        return games.getIfPresent(gameId); // counts as an access, resetting the game's idle timer
+    }
+
+    @Override
+    public GameStateContext remove(long gameId) {
+        return games.asMap().remove(gameId);
+    }
+
+    @Override
+    public boolean contains(long gameId) {
+        return games.asMap().containsKey(gameId);
+    }
+
+    @Override
+    public int size() {
+        return (int) games.estimatedSize();
+    }
+
+    @Override
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+
+    @Override
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    // Visits every live game without counting as an access (idle timers are not reset)
+    void forEach(BiConsumer<Long, GameStateContext> action) {
+        games.asMap().forEach(action);
+    }
+
+    // Runs any pending expiry/size eviction immediately (normally done asynchronously)
+    void cleanUp() {
+        games.cleanUp();
+    }
+
+    private void writeSnapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            GameSnapshot.write(snapshotFile, this);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    // Writes a final snapshot (when snapshots are on), so a clean shutdown loses no games. The scheduler is shut down
+    // without interrupting a snapshot already in progress; the final one waits for it and then overwrites it.
+    @Override
+    public void close() throws IOException {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdown();
+        }
+        if (snapshotFile != null) {
+            writeSnapshot();
+        }
+    }
+}
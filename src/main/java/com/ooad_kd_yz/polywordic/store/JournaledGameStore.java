@@ -0,0 +1,266 @@
+package com.ooad_kd_yz.polywordic.store;
+
+// Durable IGameStore (polywordic.games.store=journal): games live in an InMemoryGameStore as usual, and every change
+// is also appended to a GameJournal on local disk (polywordic.journal.dir), so games survive a restart or crash.
+//  - create, guess and delete (including automatic expiry/eviction) each append one small record
+//  - sync() (called by the service before it answers) waits for the group-committed fsync covering those records
+//  - on startup the latest snapshot is loaded and the segments written after it are replayed
+//  - every polywordic.journal.snapshot-interval, and on shutdown (e.g. SIGTERM), the live games are written to a new
+//    GameSnapshot and the segments it covers are deleted, which bounds both disk use and replay time
+// Restored games start a fresh idle timer.
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.model.WordCodec;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import com.ooad_kd_yz.polywordic.state.IGuessListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "polywordic.games.store", havingValue = "journal")
+public class JournaledGameStore implements IGameStore, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(JournaledGameStore.class);
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.bin");
+
+    private final Path directory;
+    private final IFeedbackEvaluator feedbackEvaluator;
+    private final InMemoryGameStore games;
+    private final GameJournal journal;
+    private final ScheduledExecutorService snapshotScheduler;
+    private final ReentrantLock snapshotLock = new ReentrantLock(); // one snapshot at a time
+    private volatile boolean recovered; // evictions during replay are not journaled again
+
+    @Autowired
+    public JournaledGameStore(@Value("${polywordic.journal.dir:data/journal}") String directory,
+                              @Value("${polywordic.journal.snapshot-interval:5m}") Duration snapshotInterval,
+                              @Value("${polywordic.games.max-capacity:1000000}") long maxCapacity,
+                              @Value("${polywordic.games.idle-timeout:30m}") Duration idleTimeout,
+                              IFeedbackEvaluator feedbackEvaluator) throws IOException {
+        this(Path.of(directory), snapshotInterval, maxCapacity, idleTimeout, Ticker.systemTicker(),
+                Scheduler.systemScheduler(), feedbackEvaluator);
+    }
+
+    JournaledGameStore(Path directory, Duration snapshotInterval, long maxCapacity, Duration idleTimeout,
+                       Ticker ticker, Scheduler scheduler, IFeedbackEvaluator feedbackEvaluator) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.feedbackEvaluator = feedbackEvaluator;
+        this.games = new InMemoryGameStore(maxCapacity, idleTimeout, ticker, scheduler, this::evicted);
+
+        long lastSegment = recover();
+        this.journal = new GameJournal(directory, lastSegment + 1);
+        games.forEach((gameId, game) -> game.setGuessListener(guessListener(gameId)));
+        recovered = true;
+
+        this.snapshotScheduler = GameSnapshot.scheduleEvery(snapshotInterval, "polywordic-snapshot", this::scheduledSnapshot);
+    }
+
+    @Override
+    public void put(long gameId, GameStateContext game) {
+        game.setGuessListener(guessListener(gameId));
+        // appended after the game is visible, so a snapshot that misses the game is always followed by this record;
+        // the game's lock is held across both, so no guess can be journaled ahead of the create
+        Lock lock = game.getGuessLock();
+        lock.lock();
+        try {
+            games.put(gameId, game);
+            journal.appendCreate(gameId, game.getGameId(), game.getMaxAttempts(),
+                    WordCodec.encode(game.getTargetWordString()));
+        } catch (RuntimeException e) {
+            games.remove(gameId); // never journaled, so it must not be played
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public GameStateContext get(long gameId) {
+        return games.get(gameId);
+    }
+
+    @Override
+    public GameStateContext remove(long gameId) {
+        GameStateContext removed = games.remove(gameId);
+        if (removed != null) {
+            journal.appendDelete(gameId);
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean contains(long gameId) {
+        return games.contains(gameId);
+    }
+
+    @Override
+    public int size() {
+        return games.size();
+    }
+
+    @Override
+    public long getEvictedCount() {
+        return games.getEvictedCount();
+    }
+
+    @Override
+    public long getExpiredCount() {
+        return games.getExpiredCount();
+    }
+
+    @Override
+    public void sync() {
+        journal.sync();
+    }
+
+    private IGuessListener guessListener(long gameId) {
+        return (game, attempt, wordCode) -> journal.appendGuess(gameId, attempt, wordCode);
+    }
+
+    private void evicted(long gameId) {
+        if (recovered) {
+            journal.appendDelete(gameId);
+        }
+    }
+
+    // Loads the newest snapshot, then replays every segment from that snapshot's number on.
+    // Returns the highest segment or snapshot number found, so the journal continues in a fresh segment after it.
+    private long recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.toList();
+        }
+        long snapshot = -1;
+        long lastSegment = 0;
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(".tmp")) {
+                Files.deleteIfExists(file); // snapshot interrupted before it was complete
+            }
+            snapshot = Math.max(snapshot, numberOf(SNAPSHOT_FILE, name));
+            lastSegment = Math.max(lastSegment, numberOf(SEGMENT_FILE, name));
+        }
+
+        if (snapshot >= 0) {
+            long restored = GameSnapshot.read(snapshotFile(snapshot), feedbackEvaluator, games::put);
+            log.info("Restored {} games from snapshot {}", restored, snapshotFile(snapshot));
+        }
+        Replay replay = new Replay();
+        long records = 0;
+        for (long segment = Math.max(snapshot, 0); segment <= lastSegment; segment++) {
+            Path file = GameJournal.segmentFile(directory, segment);
+            if (Files.exists(file)) {
+                records += GameJournal.read(file, replay);
+            }
+        }
+        if (records > 0) {
+            log.info("Replayed {} journal records in {}", records, directory);
+        }
+        return Math.max(lastSegment, snapshot);
+    }
+
+    private static long numberOf(Pattern pattern, String fileName) {
+        Matcher matcher = pattern.matcher(fileName);
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    private Path snapshotFile(long segment) {
+        return directory.resolve(String.format("snapshot-%010d.bin", segment));
+    }
+
+    // Applies journal records to the in-memory store. Every record is idempotent: a create for a game that already
+    // exists, a guess for an attempt the game has already made, and a delete for a missing game are all ignored.
+    // That is what lets a snapshot be written while games keep changing: a change that lands in both the snapshot
+    // and the segment after it is only applied once.
+    private final class Replay implements GameJournal.RecordVisitor {
+        @Override
+        public void create(long key, String gameId, int maxAttempts, int targetCode) {
+            if (!games.contains(key)) {
+                games.put(key, new GameStateContext(gameId, WordCodec.decode(targetCode), maxAttempts, feedbackEvaluator));
+            }
+        }
+
+        @Override
+        public void guess(long key, int attempt, int wordCode) {
+            GameStateContext game = games.get(key);
+            if (game != null && !game.isGameOver() && game.getCurrentAttempt() == attempt) {
+                game.makeGuess(WordCodec.decode(wordCode));
+            }
+        }
+
+        @Override
+        public void delete(long key) {
+            games.remove(key);
+        }
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write game snapshot", e);
+        }
+    }
+
+    // Writes every live game to snapshot-N.bin, where N is a freshly started segment, then deletes the segments and
+    // snapshots before N. The journal is rotated first, so every record in the deleted segments describes a change
+    // that is already visible to the iteration below.
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long segment = journal.rotate();
+            GameSnapshot.write(snapshotFile(segment), games); // forces the directory, so the rename outlives the deletes
+
+            try (Stream<Path> listing = Files.list(directory)) {
+                for (Path old : listing.toList()) {
+                    String name = old.getFileName().toString();
+                    long number = Math.max(numberOf(SEGMENT_FILE, name), numberOf(SNAPSHOT_FILE, name));
+                    if (number >= 0 && number < segment) {
+                        Files.deleteIfExists(old);
+                    }
+                }
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        try {
+            snapshot(); // so the next startup only has to load the snapshot
+        } finally {
+            journal.close();
+        }
+    }
+
+    // Stops without a final snapshot, leaving the directory as a crash would (the journal is still fully synced)
+    void abandon() throws IOException {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        journal.close();
+    }
+}
@@ -0,0 +1,238 @@
+package com.ooad_kd_yz.polywordic.store;
+
+// Off-heap IGameStore (polywordic.games.store=offheap): every game is a fixed 56-byte record in a GameArena of direct
+// ByteBuffers, and the key-to-slot index is two primitive arrays (SlotIndex), so a million live games add no objects
+// for the GC to trace or copy. get returns a new GameStateContext view over the game's slot (Flyweight Pattern); the
+// view is cheap, short-lived garbage, and guesses made through it are written straight into the slot.
+//  - put copies the game into a slot; later changes must go through a game returned by get
+//  - games idle for polywordic.games.idle-timeout are removed when next looked up, and swept when the arena is full
+//  - when all polywordic.games.max-capacity slots hold live games, put fails rather than evicting a live game
+// Games may make at most GameArena.MAX_GUESSES guesses (every built-in difficulty fits).
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ooad_kd_yz.polywordic.id.IGameIdGenerator;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.model.WordCodec;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@ConditionalOnProperty(name = "polywordic.games.store", havingValue = "offheap")
+public class OffHeapGameStore implements IGameStore {
+    private final GameArena arena;
+    private final SlotIndex index = new SlotIndex();
+    private final ReentrantReadWriteLock indexLock = new ReentrantReadWriteLock(); // guards index and slot allocation
+    private final IGameIdGenerator gameIdGenerator; // game IDs are formatted from the key rather than stored
+    private final IFeedbackEvaluator feedbackEvaluator;
+    private final Ticker ticker;
+    private final long startNanos;
+    private final long idleTimeoutSeconds;
+    private final LongAdder expiredCount = new LongAdder();
+
+    @Autowired
+    public OffHeapGameStore(@Value("${polywordic.games.max-capacity:1000000}") long maxCapacity,
+                            @Value("${polywordic.games.idle-timeout:30m}") Duration idleTimeout,
+                            IGameIdGenerator gameIdGenerator, IFeedbackEvaluator feedbackEvaluator) {
+        this(maxCapacity, idleTimeout, Ticker.systemTicker(), gameIdGenerator, feedbackEvaluator);
+    }
+
+    OffHeapGameStore(long maxCapacity, Duration idleTimeout, Ticker ticker, IGameIdGenerator gameIdGenerator,
+                     IFeedbackEvaluator feedbackEvaluator) {
+        if (maxCapacity < 1 || maxCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Off-heap store capacity out of range: " + maxCapacity);
+        }
+        this.arena = new GameArena((int) maxCapacity);
+        this.gameIdGenerator = gameIdGenerator;
+        this.feedbackEvaluator = feedbackEvaluator;
+        this.ticker = ticker;
+        this.startNanos = ticker.read();
+        this.idleTimeoutSeconds = Math.max(1, idleTimeout.toSeconds());
+    }
+
+    @Override
+    public void put(long gameId, GameStateContext game) {
+        if (gameId == GameArena.FREE_KEY) {
+            throw new IllegalArgumentException("Reserved game key: " + gameId);
+        }
+        int maxAttempts = game.getMaxAttempts();
+        if (maxAttempts > GameArena.MAX_GUESSES) {
+            throw new IllegalArgumentException("Off-heap games allow at most " + GameArena.MAX_GUESSES + " attempts");
+        }
+        int[] packedGuesses = new int[maxAttempts];
+        int guessCount = game.getPackedGuesses(packedGuesses);
+        int targetCode = WordCodec.encode(game.getTargetWordString());
+        long keyboardBits = game.getKeyboardState().toBits();
+        byte stateCode = game.getStateCode();
+
+        Lock writeLock = indexLock.writeLock();
+        writeLock.lock();
+        try {
+            int slot = index.get(gameId);
+            if (slot < 0) {
+                slot = allocate();
+                index.put(gameId, slot);
+            }
+            Lock slotLock = arena.lock(slot);
+            slotLock.lock();
+            try {
+                arena.write(slot, gameId, targetCode, maxAttempts, packedGuesses, guessCount, keyboardBits, stateCode, now());
+            } finally {
+                slotLock.unlock();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Called with the write lock held
+    private int allocate() {
+        int slot = arena.allocate();
+        if (slot < 0) {
+            sweepExpired();
+            slot = arena.allocate();
+        }
+        if (slot < 0) {
+            throw new IllegalStateException("Game store is full (" + arena.capacity() + " active games)");
+        }
+        return slot;
+    }
+
+    @Override
+    public GameStateContext get(long gameId) {
+        int now = now();
+        Lock readLock = indexLock.readLock();
+        readLock.lock();
+        try {
+            int slot = index.get(gameId);
+            if (slot < 0) {
+                return null;
+            }
+            if (!isExpired(slot, now)) {
+                arena.touch(slot, now);
+                return view(slot, gameId);
+            }
+        } finally {
+            readLock.unlock();
+        }
+        expire(gameId, now);
+        return null;
+    }
+
+    private GameStateContext view(int slot, long gameId) {
+        return new GameStateContext(gameIdGenerator.format(gameId), WordCodec.decode(arena.targetCode(slot)),
+                arena.maxAttempts(slot), feedbackEvaluator, arena.record(slot, gameId));
+    }
+
+    @Override
+    public GameStateContext remove(long gameId) {
+        Lock writeLock = indexLock.writeLock();
+        writeLock.lock();
+        try {
+            int slot = index.remove(gameId);
+            return slot < 0 ? null : release(slot, gameId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Frees a slot already removed from the index (write lock held), returning a detached heap copy of its game.
+    // Taking the slot's lock waits for any guess in progress, and views still held afterwards reject new guesses.
+    private GameStateContext release(int slot, long gameId) {
+        Lock slotLock = arena.lock(slot);
+        slotLock.lock();
+        try {
+            GameStateContext view = view(slot, gameId);
+            int[] packedGuesses = new int[view.getMaxAttempts()];
+            int guessCount = view.getPackedGuesses(packedGuesses);
+            GameStateContext copy = GameStateContext.restore(view.getGameId(), view.getTargetWordString(),
+                    view.getMaxAttempts(), feedbackEvaluator, packedGuesses, guessCount, view.getStateCode());
+            arena.free(slot);
+            return copy;
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(long gameId) {
+        Lock readLock = indexLock.readLock();
+        readLock.lock();
+        try {
+            int slot = index.get(gameId);
+            return slot >= 0 && !isExpired(slot, now());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        Lock readLock = indexLock.readLock();
+        readLock.lock();
+        try {
+            return index.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    private void expire(long gameId, int now) {
+        Lock writeLock = indexLock.writeLock();
+        writeLock.lock();
+        try {
+            int slot = index.get(gameId);
+            if (slot >= 0 && isExpired(slot, now)) { // not touched or replaced since the read lock was released
+                index.remove(gameId);
+                free(slot);
+                expiredCount.increment();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Frees every expired slot; called with the write lock held when the arena is full
+    private void sweepExpired() {
+        int now = now();
+        for (int slot = 0; slot < arena.highWater(); slot++) {
+            long gameId = arena.key(slot);
+            if (gameId != GameArena.FREE_KEY && isExpired(slot, now)) {
+                index.remove(gameId);
+                free(slot);
+                expiredCount.increment();
+            }
+        }
+    }
+
+    // Frees a slot already removed from the index (write lock held), once any guess in progress on it has finished
+    private void free(int slot) {
+        Lock slotLock = arena.lock(slot);
+        slotLock.lock();
+        try {
+            arena.free(slot);
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    private boolean isExpired(int slot, int now) {
+        return now - arena.lastAccess(slot) >= idleTimeoutSeconds;
+    }
+
+    private int now() {
+        return (int) Duration.ofNanos(ticker.read() - startNanos).toSeconds();
+    }
+}
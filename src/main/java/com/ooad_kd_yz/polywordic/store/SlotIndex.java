@@ -0,0 +1,102 @@
+package com.ooad_kd_yz.polywordic.store;
+
+// Open-addressing hash map from game key to arena slot for OffHeapGameStore, in two primitive arrays so an entry
+// costs 12 bytes and no objects (a HashMap<Long, Integer> entry is ~80 bytes across three objects the GC must trace).
+// Linear probing; removal shifts later entries of the probe run back instead of leaving tombstones.
+// Not thread-safe: OffHeapGameStore guards it with a read-write lock.
+
+import java.util.Arrays;
+
+final class SlotIndex {
+    private static final long EMPTY = GameArena.FREE_KEY;
+    private static final int MIN_TABLE_SIZE = 1 << 12;
+
+    private long[] keys;
+    private int[] slots;
+    private int mask;
+    private int size;
+
+    SlotIndex() {
+        allocate(MIN_TABLE_SIZE);
+    }
+
+    private void allocate(int tableSize) {
+        keys = new long[tableSize];
+        Arrays.fill(keys, EMPTY);
+        slots = new int[tableSize];
+        mask = tableSize - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Returns the slot for key, or -1 if absent
+    int get(long key) {
+        for (int i = indexFor(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return slots[i];
+            }
+            if (k == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    // key must be absent; keys equal to GameArena.FREE_KEY are not allowed
+    void put(long key, int slot) {
+        if (2 * (size + 1) > keys.length) {
+            resize(keys.length * 2); // keeps the load factor at most 1/2
+        }
+        int i = indexFor(key);
+        while (keys[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        slots[i] = slot;
+        size++;
+    }
+
+    // Returns the removed key's slot, or -1 if absent
+    int remove(long key) {
+        int i = indexFor(key);
+        while (keys[i] != key) {
+            if (keys[i] == EMPTY) {
+                return -1;
+            }
+            i = (i + 1) & mask;
+        }
+        int slot = slots[i];
+        // backward-shift: move each later entry of the run into the gap unless its home lies cyclically after the gap
+        int gap = i;
+        for (int j = (gap + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = indexFor(keys[j]);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                slots[gap] = slots[j];
+                gap = j;
+            }
+        }
+        keys[gap] = EMPTY;
+        size--;
+        return slot;
+    }
+
+    private void resize(int tableSize) {
+        long[] oldKeys = keys;
+        int[] oldSlots = slots;
+        allocate(tableSize);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldSlots[i]);
+            }
+        }
+    }
+
+    private int indexFor(long key) {
+        long h = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing spreads sequential (time-based) keys
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
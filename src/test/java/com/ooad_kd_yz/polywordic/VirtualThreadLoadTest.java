@@ -0,0 +1,207 @@
+package com.ooad_kd_yz.polywordic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Load test comparing the platform-thread (Tomcat worker pool) and virtual-thread (spring.threads.virtual.enabled)
+// configurations over real HTTP. Each request also sleeps BLOCKING_IO_MILLIS to model blocking I/O behind the
+// service (e.g. a durable game store), which is where the thread model matters: the platform pool caps concurrency
+// at server.tomcat.threads.max while virtual threads unmount during the wait.
+// Latencies depend on the machine, so they are printed for comparison rather than asserted; the assertions only
+// check that each configuration ran on the intended threads and served every request.
+// Excluded from ./gradlew test; run with ./gradlew loadTest
+
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = 1000;
+    private static final int PLATFORM_THREADS = 100;
+    private static final int BLOCKING_IO_MILLIS = 20;
+    private static final String[] GUESSES = {"CRANE", "LIGHT", "HOUSE"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Virtual threads should serve more concurrent requests than the platform pool")
+    void testPlatformVersusVirtualThreads() throws Exception {
+        LoadResult platform = runLoad(false);
+        LoadResult virtual = runLoad(true);
+
+        System.out.printf("%-9s %8s %10s %10s %10s %15s%n", "threads", "requests", "p50 (ms)", "p99 (ms)", "max (ms)", "max in-flight");
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertEquals(0, platform.failures());
+        assertEquals(0, virtual.failures());
+        assertFalse(platform.ranOnVirtualThreads());
+        assertTrue(virtual.ranOnVirtualThreads());
+        assertTrue(platform.maxInFlight() <= PLATFORM_THREADS);
+        assertTrue(virtual.maxInFlight() > PLATFORM_THREADS,
+                "virtual threads should not be capped by the platform pool: " + virtual.maxInFlight());
+    }
+
+    private LoadResult runLoad(boolean virtualThreads) throws Exception {
+        InFlightFilter filter = new InFlightFilter();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PolywordicApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "spring.main.banner-mode=off")
+                .initializers(ctx -> ((GenericApplicationContext) ctx).registerBean(InFlightFilter.class, () -> filter))
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            runClients(client, baseUrl, CLIENTS / 10); // warm-up
+            filter.reset();
+
+            List<long[]> perClient = runClients(client, baseUrl, CLIENTS);
+            long[] latencies = perClient.stream().flatMapToLong(Arrays::stream).filter(l -> l >= 0).sorted().toArray();
+            int failures = (int) perClient.stream().flatMapToLong(Arrays::stream).filter(l -> l < 0).count();
+
+            return new LoadResult(virtualThreads ? "virtual" : "platform", latencies, failures,
+                    filter.maxInFlight.get(), filter.sawVirtualThread.get());
+        }
+    }
+
+    // Each client plays one game (create, three guesses, read, delete) and records the latency of every request
+    // (-1 for an unexpected status). All clients start together so the server sees CLIENTS concurrent requests.
+    private List<long[]> runClients(HttpClient client, String baseUrl, int clients) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> playGame(client, baseUrl)));
+            }
+            List<long[]> results = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private long[] playGame(HttpClient client, String baseUrl) throws Exception {
+        long[] latencies = new long[GUESSES.length + 3];
+        int request = 0;
+
+        long start = System.nanoTime();
+        HttpResponse<String> created = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/game/new?difficulty=EASY"))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+        latencies[request++] = latency(start, created.statusCode() == 200);
+        if (created.statusCode() != 200) {
+            Arrays.fill(latencies, -1);
+            return latencies;
+        }
+        String gameId = (String) objectMapper.readValue(created.body(), Map.class).get("gameId");
+        String gameUrl = baseUrl + "/api/game/" + gameId;
+
+        for (String guess : GUESSES) {
+            start = System.nanoTime();
+            HttpResponse<Void> guessed = client.send(
+                    HttpRequest.newBuilder(URI.create(gameUrl + "/guess"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"guess\":\"" + guess + "\"}")).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            // 400 is expected if an earlier guess happened to win the game
+            latencies[request++] = latency(start, guessed.statusCode() == 200 || guessed.statusCode() == 400);
+        }
+
+        start = System.nanoTime();
+        HttpResponse<Void> read = client.send(HttpRequest.newBuilder(URI.create(gameUrl)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        latencies[request++] = latency(start, read.statusCode() == 200);
+
+        start = System.nanoTime();
+        HttpResponse<Void> deleted = client.send(HttpRequest.newBuilder(URI.create(gameUrl)).DELETE().build(),
+                HttpResponse.BodyHandlers.discarding());
+        latencies[request] = latency(start, deleted.statusCode() == 200);
+
+        return latencies;
+    }
+
+    private static long latency(long start, boolean ok) {
+        return ok ? System.nanoTime() - start : -1;
+    }
+
+    // Counts requests concurrently inside the servlet stack and simulates blocking I/O on each one
+    static class InFlightFilter extends OncePerRequestFilter {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicBoolean sawVirtualThread = new AtomicBoolean();
+
+        void reset() {
+            maxInFlight.set(0);
+            sawVirtualThread.set(false);
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            if (Thread.currentThread().isVirtual()) {
+                sawVirtualThread.set(true);
+            }
+            try {
+                Thread.sleep(BLOCKING_IO_MILLIS);
+                chain.doFilter(request, response);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private record LoadResult(String name, long[] sortedLatencies, int failures, int maxInFlight,
+                              boolean ranOnVirtualThreads) {
+        long percentile(double p) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.ceil(p * sortedLatencies.length) - 1)];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-9s %8d %10.1f %10.1f %10.1f %15d", name, sortedLatencies.length,
+                    percentile(0.50) / 1e6, percentile(0.99) / 1e6,
+                    sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length - 1] / 1e6, maxInFlight);
+        }
+    }
+}
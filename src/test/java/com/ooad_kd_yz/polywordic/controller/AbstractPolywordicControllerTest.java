@@ -0,0 +1,438 @@
+package com.ooad_kd_yz.polywordic.controller;
+
+import com.ooad_kd_yz.polywordic.dto.BatchGuessRequest;
+import com.ooad_kd_yz.polywordic.dto.BatchGuessResponse;
+import com.ooad_kd_yz.polywordic.model.FeedbackPattern;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
+import com.ooad_kd_yz.polywordic.service.PolywordicGameService;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Controller test suite shared by both web stacks: PolywordicControllerTest runs it against the servlet
+// controller (through MockMvc) and ReactivePolywordicControllerTest against the WebFlux controller.
+
+abstract class AbstractPolywordicControllerTest {
+
+    @MockitoBean
+    protected PolywordicGameService gameService;
+
+    protected GameStateContext mockGame;
+
+    // client for the stack under test
+    protected abstract WebTestClient client();
+
+    @BeforeEach
+    void setUp() {
+        mockGame = new GameStateContext("test-game-id", "APPLE", 6);
+    }
+
+    @Test
+    @DisplayName("Should serve index page")
+    void testIndexPage() {
+        client().get().uri("/")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_HTML)
+                .expectBody(String.class).value(containsString("<title>Polywordic</title>"));
+    }
+
+    // Create new game tests - POST /api/game/new?difficulty=EASY
+    @Test
+    @DisplayName("Should create new game with default difficulty of EASY")
+    void testCreateNewGameDefault() {
+        when(gameService.createNewGame("EASY")).thenReturn(mockGame);
+
+        client().post().uri("/api/game/new")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.gameId").isEqualTo("test-game-id")
+                .jsonPath("$.difficulty").isEqualTo("EASY")
+                .jsonPath("$.maxAttempts").isEqualTo(6)
+                .jsonPath("$.remainingAttempts").isEqualTo(6);
+
+        verify(gameService, times(1)).createNewGame("EASY");
+    }
+
+    @Test
+    @DisplayName("Should create new game with specified difficulty of EASY")
+    void testCreateNewGameEasy() {
+        GameStateContext easyGame = new GameStateContext("easy-game", "BEACH", 6);
+        when(gameService.createNewGame("EASY")).thenReturn(easyGame);
+
+        client().post().uri("/api/game/new?difficulty=EASY")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.gameId").isEqualTo("easy-game")
+                .jsonPath("$.difficulty").isEqualTo("EASY")
+                .jsonPath("$.maxAttempts").isEqualTo(6);
+
+        verify(gameService, times(1)).createNewGame("EASY");
+    }
+
+    @Test
+    @DisplayName("Should create new game with specified difficulty of MEDIUM")
+    void testCreateNewGameMedium() {
+        GameStateContext mediumGame = new GameStateContext("medium-game", "BEACH", 5);
+        when(gameService.createNewGame("MEDIUM")).thenReturn(mediumGame);
+
+        client().post().uri("/api/game/new?difficulty=MEDIUM")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.gameId").isEqualTo("medium-game")
+                .jsonPath("$.difficulty").isEqualTo("MEDIUM")
+                .jsonPath("$.maxAttempts").isEqualTo(5);
+
+        verify(gameService, times(1)).createNewGame("MEDIUM");
+    }
+
+    @Test
+    @DisplayName("Should create new game with specified difficulty of HARD")
+    void testCreateNewGameHard() {
+        GameStateContext hardGame = new GameStateContext("hard-game", "BEACH", 4);
+        when(gameService.createNewGame("HARD")).thenReturn(hardGame);
+
+        client().post().uri("/api/game/new?difficulty=HARD")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.gameId").isEqualTo("hard-game")
+                .jsonPath("$.difficulty").isEqualTo("HARD")
+                .jsonPath("$.maxAttempts").isEqualTo(4);
+
+        verify(gameService, times(1)).createNewGame("HARD");
+    }
+
+    @Test
+    @DisplayName("Should handle error when creating game")
+    void testCreateNewGameError() {
+        when(gameService.createNewGame(any())).thenThrow(new RuntimeException("Database error"));
+
+        client().post().uri("/api/game/new?difficulty=EASY")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").exists();
+    }
+
+    // Bulk create tests - POST /api/games/new?difficulty=HARD&count=2
+    @Test
+    @DisplayName("Should create several games in one call")
+    void testCreateNewGames() {
+        List<GameStateContext> games = List.of(
+                new GameStateContext("hard-1", "BEACH", 4), new GameStateContext("hard-2", "APPLE", 4));
+        when(gameService.createNewGames("HARD", 2)).thenReturn(games);
+
+        client().post().uri("/api/games/new?difficulty=HARD&count=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.difficulty").isEqualTo("HARD")
+                .jsonPath("$.maxAttempts").isEqualTo(4)
+                .jsonPath("$.gameIds").value(contains("hard-1", "hard-2"));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid bulk game count")
+    void testCreateNewGamesInvalidCount() {
+        when(gameService.createNewGames("EASY", 0))
+                .thenThrow(new IllegalArgumentException("Count must be between 1 and 1000"));
+
+        client().post().uri("/api/games/new?count=0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Count must be between 1 and 1000");
+    }
+
+    // Get current game state tests
+    @Test
+    @DisplayName("Should get game state")
+    void testGetGame() {
+        when(gameService.getGame("test-game-id")).thenReturn(mockGame);
+
+        client().get().uri("/api/game/test-game-id")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.gameId").isEqualTo("test-game-id")
+                .jsonPath("$.maxAttempts").isEqualTo(6)
+                .jsonPath("$.currentAttempt").isEqualTo(0)
+                .jsonPath("$.remainingAttempts").isEqualTo(6)
+                .jsonPath("$.gameOver").isEqualTo(false)
+                .jsonPath("$.won").isEqualTo(false)
+                .jsonPath("$.stateName").isEqualTo("ACTIVE")
+                .jsonPath("$.targetWord").doesNotExist(); // Should not reveal word yet
+
+        verify(gameService, times(1)).getGame("test-game-id");
+    }
+
+    @Test
+    @DisplayName("Should return 404 when game not found")
+    void testGetGameNotFound() {
+        when(gameService.getGame("nonexistent")).thenThrow(new IllegalArgumentException("Game not found"));
+
+        client().get().uri("/api/game/nonexistent")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Game not found");
+    }
+
+    @Test
+    @DisplayName("Should reveal target word when game is over")
+    void testGetGameRevealWordWhenOver() {
+        GameStateContext completedGame = new GameStateContext("completed-game", "APPLE", 6);
+        completedGame.makeGuess("APPLE"); // Win the game
+        when(gameService.getGame("completed-game")).thenReturn(completedGame);
+
+        client().get().uri("/api/game/completed-game")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.gameOver").isEqualTo(true)
+                .jsonPath("$.won").isEqualTo(true)
+                .jsonPath("$.targetWord").isEqualTo("APPLE"); // Should reveal word
+    }
+
+    // Make guess tests
+    // POST /api/game/{gameId}/guess, Body: { "guess": "APPLE" }
+    @Test
+    @DisplayName("Should make a valid guess")
+    void testMakeGuess() {
+        GuessResult guessResult = GuessResult.of("BEACH", FeedbackPattern.evaluate("APPLE", "BEACH"));
+        when(gameService.makeGuess("test-game-id", "BEACH")).thenReturn(guessResult);
+        when(gameService.getGame("test-game-id")).thenReturn(mockGame);
+
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("guess", "BEACH");
+
+        client().post().uri("/api/game/test-game-id/guess")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.guess").isEqualTo("BEACH")
+                .jsonPath("$.results").isArray()
+                .jsonPath("$.gameOver").isEqualTo(false)
+                .jsonPath("$.won").isEqualTo(false)
+                .jsonPath("$.stateName").isEqualTo("ACTIVE");
+
+        verify(gameService, times(1)).makeGuess("test-game-id", "BEACH");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid word")
+    void testMakeGuessInvalidWord() {
+        when(gameService.makeGuess("test-game-id", "ZZZZZ"))
+                .thenThrow(new IllegalArgumentException("Not a valid word: ZZZZZ"));
+
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("guess", "ZZZZZ");
+
+        client().post().uri("/api/game/test-game-id/guess")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Not a valid word: ZZZZZ");
+    }
+
+    @Test
+    @DisplayName("Should reject guess when game is over")
+    void testMakeGuessGameOver() {
+        when(gameService.makeGuess("test-game-id", "BEACH"))
+                .thenThrow(new IllegalStateException("Game is already won"));
+
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("guess", "BEACH");
+
+        client().post().uri("/api/game/test-game-id/guess")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").exists();
+    }
+
+    @Test
+    @DisplayName("Should handle winning guess")
+    void testMakeGuessWin() {
+        // Arrange
+        GuessResult winningGuess = GuessResult.of("APPLE", FeedbackPattern.ALL_CORRECT);
+        GameStateContext wonGame = new GameStateContext("win-game", "APPLE", 6);
+        wonGame.makeGuess("APPLE");
+
+        when(gameService.makeGuess("win-game", "APPLE")).thenReturn(winningGuess);
+        when(gameService.getGame("win-game")).thenReturn(wonGame);
+
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("guess", "APPLE");
+
+        // Act & Assert
+        client().post().uri("/api/game/win-game/guess")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.gameOver").isEqualTo(true)
+                .jsonPath("$.won").isEqualTo(true)
+                .jsonPath("$.stateName").isEqualTo("WON")
+                .jsonPath("$.targetWord").isEqualTo("APPLE");
+    }
+
+    // Batch guess tests
+    // POST /api/game/{gameId}/guesses, Body: { "guesses": ["CRANE", "APPLE"] }
+    @Test
+    @DisplayName("Should make a batch of guesses in one game")
+    void testMakeGuesses() {
+        GameStateContext wonGame = new GameStateContext("win-game", "APPLE", 6);
+        wonGame.makeGuess("CRANE");
+        wonGame.makeGuess("APPLE");
+        when(gameService.makeGuesses("win-game", List.of("CRANE", "APPLE"))).thenReturn(new int[] {24, 242});
+        when(gameService.getGame("win-game")).thenReturn(wonGame);
+
+        client().post().uri("/api/game/win-game/guesses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("guesses", List.of("CRANE", "APPLE")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.gameId").isEqualTo("win-game")
+                .jsonPath("$.results").value(contains(24, 242))
+                .jsonPath("$.stateName").isEqualTo("WON")
+                .jsonPath("$.remainingAttempts").isEqualTo(4)
+                .jsonPath("$.targetWord").isEqualTo("APPLE")
+                .jsonPath("$.error").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should reject a batch of guesses for an unknown game")
+    void testMakeGuessesUnknownGame() {
+        when(gameService.makeGuesses("nonexistent", List.of("CRANE")))
+                .thenThrow(new IllegalArgumentException("Game not found: nonexistent"));
+
+        client().post().uri("/api/game/nonexistent/guesses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("guesses", List.of("CRANE")))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Game not found: nonexistent");
+    }
+
+    // POST /api/games/guesses, Body: [ { "gameId": "...", "guesses": [...] }, ... ]
+    @Test
+    @DisplayName("Should make guesses in many games, reporting errors per game")
+    void testMakeGuessesForGames() {
+        List<BatchGuessRequest> requests = List.of(
+                new BatchGuessRequest("test-game-id", List.of("BEACH")),
+                new BatchGuessRequest("nonexistent", List.of("CRANE")));
+        when(gameService.makeGuessesForGames(requests)).thenReturn(List.of(
+                BatchGuessResponse.from(mockGame, new int[] {-1}),
+                BatchGuessResponse.error("nonexistent", "Game not found: nonexistent")));
+
+        client().post().uri("/api/games/guesses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        Map.of("gameId", "test-game-id", "guesses", List.of("BEACH")),
+                        Map.of("gameId", "nonexistent", "guesses", List.of("CRANE"))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$").value(hasSize(2))
+                .jsonPath("$[0].gameId").isEqualTo("test-game-id")
+                .jsonPath("$[0].results").value(contains(-1))
+                .jsonPath("$[0].stateName").isEqualTo("ACTIVE")
+                .jsonPath("$[0].remainingAttempts").isEqualTo(6)
+                .jsonPath("$[1].gameId").isEqualTo("nonexistent")
+                .jsonPath("$[1].error").isEqualTo("Game not found: nonexistent")
+                .jsonPath("$[1].results").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should reject a multi-game guess request with a null body or too many games")
+    void testMakeGuessesForGamesInvalidBody() {
+        client().post().uri("/api/games/guesses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("null")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        when(gameService.makeGuessesForGames(any()))
+                .thenThrow(new IllegalArgumentException("Body must be a list of at most 1000 game requests"));
+        client().post().uri("/api/games/guesses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(Map.of("gameId", "test-game-id", "guesses", List.of("BEACH"))))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Body must be a list of at most 1000 game requests");
+    }
+
+    // Test Delete game
+    @Test
+    @DisplayName("Should delete game")
+    void testDeleteGame() {
+        client().delete().uri("/api/game/test-game-id")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Game deleted successfully");
+
+        verify(gameService, times(1)).deleteGame("test-game-id");
+    }
+
+    // Game storage stats
+    @Test
+    @DisplayName("Should get game storage stats")
+    void testGetGameStats() {
+        when(gameService.getActiveGameCount()).thenReturn(3);
+        when(gameService.getEvictedGameCount()).thenReturn(2L);
+        when(gameService.getExpiredGameCount()).thenReturn(5L);
+
+        client().get().uri("/api/games/stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.activeGames").isEqualTo(3)
+                .jsonPath("$.evictedGames").isEqualTo(2)
+                .jsonPath("$.expiredGames").isEqualTo(5);
+    }
+
+    // Get available difficulties
+    @Test
+    @DisplayName("Should get available difficulties")
+    void testGetAvailableDifficulties() {
+        when(gameService.getAvailableDifficulties()).thenReturn(Set.of("EASY", "MEDIUM", "HARD"));
+
+        client().get().uri("/api/difficulties")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$").value(hasSize(3))
+                .jsonPath("$").value(containsInAnyOrder("EASY", "MEDIUM", "HARD"));
+    }
+}
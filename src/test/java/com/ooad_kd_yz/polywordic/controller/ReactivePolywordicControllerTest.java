@@ -0,0 +1,52 @@
+package com.ooad_kd_yz.polywordic.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+// Runs the shared controller suite (AbstractPolywordicControllerTest) against the reactive (WebFlux) stack
+@WebFluxTest(ReactivePolywordicController.class)
+class ReactivePolywordicControllerTest extends AbstractPolywordicControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Override
+    protected WebTestClient client() {
+        return webTestClient;
+    }
+
+    @Test
+    @DisplayName("Game changes, which may wait for a journal fsync, should run off the event loop")
+    void testMutationsRunOnBoundedElastic() {
+        AtomicReference<String> createThread = new AtomicReference<>();
+        AtomicReference<String> guessThread = new AtomicReference<>();
+        when(gameService.createNewGame("EASY")).thenAnswer(call -> {
+            createThread.set(Thread.currentThread().getName());
+            return mockGame;
+        });
+        when(gameService.makeGuess("test-game-id", "CRANE")).thenAnswer(call -> {
+            guessThread.set(Thread.currentThread().getName());
+            return mockGame.makeGuess("CRANE");
+        });
+        when(gameService.getGame("test-game-id")).thenReturn(mockGame);
+
+        client().post().uri("/api/game/new").exchange().expectStatus().isOk();
+        client().post().uri("/api/game/test-game-id/guess")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("guess", "CRANE"))
+                .exchange()
+                .expectStatus().isOk();
+
+        assertTrue(createThread.get().startsWith("boundedElastic"), createThread.get());
+        assertTrue(guessThread.get().startsWith("boundedElastic"), guessThread.get());
+    }
+}
@@ -0,0 +1,119 @@
+package com.ooad_kd_yz.polywordic.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
+import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The record DTOs and their hand-written serializers must produce the same JSON as the HashMap bodies they replaced
+// (the frontend reads these fields directly), so each response is compared against the original map form.
+
+class ResponseSerializationTest {
+
+    private ObjectMapper objectMapper;
+    private GameStateContext game;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        game = new GameStateContext("game-1", "APPLE", 6);
+    }
+
+    private void assertSameJson(Object expected, Object actual) throws Exception {
+        byte[] expectedBytes = objectMapper.writeValueAsBytes(expected);
+        byte[] actualBytes = objectMapper.writeValueAsBytes(actual);
+        JsonNode expectedTree = objectMapper.readTree(expectedBytes);
+        JsonNode actualTree = objectMapper.readTree(actualBytes);
+        assertEquals(expectedTree, actualTree);
+        assertTrue(actualBytes.length <= expectedBytes.length);
+    }
+
+    private Map<String, Object> legacyGameState(GameStateContext game) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("gameId", game.getGameId());
+        response.put("maxAttempts", game.getMaxAttempts());
+        response.put("currentAttempt", game.getCurrentAttempt());
+        response.put("remainingAttempts", game.getRemainingAttempts());
+        response.put("gameOver", game.isGameOver());
+        response.put("won", game.isWon());
+        response.put("stateName", game.getStateName());
+        response.put("guesses", game.getGuesses());
+        response.put("letterStatuses", game.getAggregateLetterStatuses());
+        if (game.isGameOver()) {
+            response.put("targetWord", game.getTargetWordString());
+        }
+        return response;
+    }
+
+    private Map<String, Object> legacyGuessResult(GuessResult result, GameStateContext game) {
+        PolywordicWord word = result.toWord();
+        Map<String, Object> response = new HashMap<>();
+        response.put("guess", word.getWord());
+        response.put("results", word.getLetters());
+        response.put("gameOver", game.isGameOver());
+        response.put("won", game.isWon());
+        response.put("stateName", game.getStateName());
+        response.put("currentAttempt", game.getCurrentAttempt());
+        response.put("remainingAttempts", game.getRemainingAttempts());
+        response.put("letterStatuses", game.getAggregateLetterStatuses());
+        if (game.isGameOver()) {
+            response.put("targetWord", game.getTargetWordString());
+        }
+        return response;
+    }
+
+    @Test
+    @DisplayName("Game created response should match the map body")
+    void testGameCreated() throws Exception {
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("gameId", "game-1");
+        legacy.put("difficulty", "EASY");
+        legacy.put("maxAttempts", 6);
+        legacy.put("remainingAttempts", 6);
+
+        assertSameJson(legacy, GameCreatedResponse.from(game, "easy"));
+    }
+
+    @Test
+    @DisplayName("Game state response should match the map body, before and after the game is over")
+    void testGameState() throws Exception {
+        assertSameJson(legacyGameState(game), GameStateResponse.from(game));
+
+        game.makeGuess("CRANE");
+        game.makeGuess("PLATE");
+        assertSameJson(legacyGameState(game), GameStateResponse.from(game));
+        assertFalse(objectMapper.readTree(objectMapper.writeValueAsBytes(GameStateResponse.from(game))).has("targetWord"));
+
+        game.makeGuess("APPLE");
+        assertSameJson(legacyGameState(game), GameStateResponse.from(game));
+        assertEquals("APPLE", objectMapper.readTree(objectMapper.writeValueAsBytes(GameStateResponse.from(game)))
+                .get("targetWord").asText());
+    }
+
+    @Test
+    @DisplayName("Guess result response should match the map body")
+    void testGuessResult() throws Exception {
+        GuessResult result = game.makeGuess("PAPER");
+        assertSameJson(legacyGuessResult(result, game), GuessResultResponse.from(result, game));
+
+        GuessResult winning = game.makeGuess("APPLE");
+        assertSameJson(legacyGuessResult(winning, game), GuessResultResponse.from(winning, game));
+    }
+
+    @Test
+    @DisplayName("Unevaluated letters should still serialize")
+    void testUnevaluatedLetters() throws Exception {
+        PolywordicWord word = new PolywordicWord("BEACH");
+        assertEquals(objectMapper.readTree("{\"letter\":\"B\",\"position\":0,\"status\":\"UNKNOWN\"}"),
+                objectMapper.readTree(objectMapper.writeValueAsBytes(word.getLetter(0))));
+    }
+}
@@ -0,0 +1,27 @@
+package com.ooad_kd_yz.polywordic.factory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DifficultyTest {
+
+    @Test
+    @DisplayName("Should parse difficulty names in any case")
+    void testParse() {
+        assertSame(Difficulty.EASY, Difficulty.parse("EASY"));
+        assertSame(Difficulty.MEDIUM, Difficulty.parse("medium"));
+        assertSame(Difficulty.HARD, Difficulty.parse("HaRd"));
+    }
+
+    @Test
+    @DisplayName("Should return null for anything that is not a difficulty name")
+    void testParseUnknown() {
+        assertNull(Difficulty.parse("IMPOSSIBLE"));
+        assertNull(Difficulty.parse("EAS"));
+        assertNull(Difficulty.parse(" EASY"));
+        assertNull(Difficulty.parse(""));
+        assertNull(Difficulty.parse(null));
+    }
+}
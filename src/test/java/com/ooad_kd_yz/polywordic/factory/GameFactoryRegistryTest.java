@@ -0,0 +1,66 @@
+package com.ooad_kd_yz.polywordic.factory;
+
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameFactoryRegistryTest {
+
+    private final GameFactoryRegistry registry = GameFactoryRegistry.builtIn();
+
+    @Test
+    @DisplayName("Should find each built-in factory by difficulty, case-insensitively")
+    void testFind() {
+        assertInstanceOf(EasyPolywordicGameFactory.class, registry.find("easy"));
+        assertInstanceOf(MediumPolywordicGameFactory.class, registry.find("Medium"));
+        assertInstanceOf(HardPolywordicGameFactory.class, registry.find("HARD"));
+        assertNull(registry.find("IMPOSSIBLE"));
+        assertNull(registry.find(null));
+    }
+
+    @Test
+    @DisplayName("Resolve should fall back to the EASY factory for unknown or missing difficulties")
+    void testResolveDefault() {
+        assertSame(registry.find("EASY"), registry.resolve("IMPOSSIBLE"));
+        assertSame(registry.find("EASY"), registry.resolve(null));
+        assertSame(registry.find("HARD"), registry.resolve("hard"));
+    }
+
+    @Test
+    @DisplayName("Should list only registered difficulties, in Difficulty order")
+    void testDifficulties() {
+        assertEquals(List.of("EASY", "MEDIUM", "HARD"), List.copyOf(registry.getDifficulties()));
+
+        GameFactoryRegistry partial = new GameFactoryRegistry(List.of(new HardPolywordicGameFactory(),
+                new EasyPolywordicGameFactory()));
+        assertEquals(List.of("EASY", "HARD"), List.copyOf(partial.getDifficulties()));
+        assertNull(partial.find("MEDIUM"));
+        assertInstanceOf(EasyPolywordicGameFactory.class, partial.resolve("MEDIUM"));
+    }
+
+    @Test
+    @DisplayName("Should reject two factories for one difficulty, or none for the default difficulty")
+    void testInvalidRegistrations() {
+        IPolywordicGameFactory otherEasy = new IPolywordicGameFactory() {
+            @Override
+            public GameStateContext createGame(String gameId, String targetWord, IFeedbackEvaluator feedbackEvaluator) {
+                return new GameStateContext(gameId, targetWord, 10, feedbackEvaluator);
+            }
+
+            @Override
+            public int getMaxAttempts() { return 10; }
+
+            @Override
+            public Difficulty getDifficultyLevel() { return Difficulty.EASY; }
+        };
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameFactoryRegistry(List.of(new EasyPolywordicGameFactory(), otherEasy)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameFactoryRegistry(List.of(new HardPolywordicGameFactory())));
+    }
+}
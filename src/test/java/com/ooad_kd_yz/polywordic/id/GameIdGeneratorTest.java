@@ -0,0 +1,127 @@
+package com.ooad_kd_yz.polywordic.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameIdGeneratorTest {
+
+    @Test
+    @DisplayName("Time-based IDs should be 11 base62 characters that parse back to the same key")
+    void testTimeBasedRoundTrip() {
+        IGameIdGenerator generator = new TimeBasedGameIdGenerator(7);
+        for (int i = 0; i < 1000; i++) {
+            long id = generator.nextId();
+            String text = generator.format(id);
+
+            assertTrue(id >= 0);
+            assertTrue(text.matches("[0-9A-Za-z]{11}"), text);
+            assertEquals(id, generator.parse(text));
+        }
+        assertEquals("0000000000A", generator.format(10));
+        assertEquals(Long.MAX_VALUE, generator.parse(generator.format(Long.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("Time-based IDs should increase and carry the node, even past 4096 IDs in one millisecond")
+    void testTimeBasedCounterOverflow() {
+        long millis = TimeBasedGameIdGenerator.EPOCH_MILLIS + 1_000;
+        TimeBasedGameIdGenerator generator = new TimeBasedGameIdGenerator(5, () -> millis); // clock never moves
+
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            assertEquals(5, id & TimeBasedGameIdGenerator.MAX_NODE);
+            previous = id;
+        }
+        // the first ID of the burst carries the clock's timestamp
+        long first = new TimeBasedGameIdGenerator(5, () -> millis).nextId();
+        assertEquals(1_000, first >>> (TimeBasedGameIdGenerator.NODE_BITS + TimeBasedGameIdGenerator.COUNTER_BITS));
+    }
+
+    @Test
+    @DisplayName("Time-based IDs should keep increasing when the clock steps backwards")
+    void testTimeBasedClockStepsBack() {
+        long[] millis = {TimeBasedGameIdGenerator.EPOCH_MILLIS + 60_000};
+        TimeBasedGameIdGenerator generator = new TimeBasedGameIdGenerator(0, () -> millis[0]);
+
+        long before = generator.nextId();
+        millis[0] -= 30_000;
+        assertTrue(generator.nextId() > before);
+    }
+
+    @Test
+    @DisplayName("Time-based generator should reject nodes outside 0-1023")
+    void testTimeBasedNodeRange() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeBasedGameIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new TimeBasedGameIdGenerator(1024));
+        assertEquals(1023, new TimeBasedGameIdGenerator(1023).getNode());
+    }
+
+    @Test
+    @DisplayName("Time-based IDs should be unique across concurrent threads")
+    void testTimeBasedConcurrentUniqueness() throws InterruptedException {
+        IGameIdGenerator generator = new TimeBasedGameIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(160_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("Malformed time-based IDs should parse to INVALID_ID")
+    void testTimeBasedMalformed() {
+        IGameIdGenerator generator = new TimeBasedGameIdGenerator(0);
+        assertEquals(IGameIdGenerator.INVALID_ID, generator.parse(null));
+        assertEquals(IGameIdGenerator.INVALID_ID, generator.parse("not-exist"));
+        assertEquals(IGameIdGenerator.INVALID_ID, generator.parse("0000000000-"));
+        assertEquals(IGameIdGenerator.INVALID_ID, generator.parse("000000000000"));
+        assertEquals(IGameIdGenerator.INVALID_ID, generator.parse("zzzzzzzzzzz")); // larger than Long.MAX_VALUE
+    }
+
+    @Test
+    @DisplayName("UUID IDs should be version 4 UUIDs that parse back to the same key")
+    void testUuidRoundTrip() {
+        IGameIdGenerator generator = new UuidGameIdGenerator();
+        for (int i = 0; i < 1000; i++) {
+            long id = generator.nextId();
+            String text = generator.format(id);
+            UUID uuid = UUID.fromString(text);
+
+            assertTrue(id >= 0);
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+            assertEquals(id, generator.parse(text));
+        }
+    }
+
+    @Test
+    @DisplayName("UUIDs this generator could not have produced should parse to INVALID_ID")
+    void testUuidMalformed() {
+        IGameIdGenerator generator = new UuidGameIdGenerator();
+        String valid = generator.format(0x0ABC_DEF0_1234_5678L);
+        assertEquals(0x0ABC_DEF0_1234_5678L, generator.parse(valid));
+
+        assertEquals(IGameIdGenerator.INVALID_ID, generator.parse(null));
+        assertEquals(IGameIdGenerator.INVALID_ID, generator.parse("not-exist"));
+        assertEquals(IGameIdGenerator.INVALID_ID, generator.parse(valid.toUpperCase())); // only the canonical form
+        assertEquals(IGameIdGenerator.INVALID_ID, generator.parse(UUID.randomUUID().toString().substring(0, 35) + "1"));
+    }
+}
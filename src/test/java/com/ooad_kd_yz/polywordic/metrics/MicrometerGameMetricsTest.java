@@ -0,0 +1,91 @@
+package com.ooad_kd_yz.polywordic.metrics;
+
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.repository.IWordRepository;
+import com.ooad_kd_yz.polywordic.service.PolywordicGameService;
+import com.ooad_kd_yz.polywordic.store.InMemoryGameStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MicrometerGameMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private PolywordicGameService service;
+
+    @BeforeEach
+    void setUp() {
+        IWordRepository repo = mock(IWordRepository.class);
+        when(repo.getRandomWord()).thenReturn("APPLE");
+        when(repo.lookup(anyString())).thenAnswer(call -> DictionaryWord.of(call.getArgument(0)));
+        when(repo.lookup("WRONG")).thenReturn(null);
+
+        registry = new SimpleMeterRegistry();
+        InMemoryGameStore store = new InMemoryGameStore();
+        service = new PolywordicGameService(repo, store, IFeedbackEvaluator.COMPUTED,
+                new MicrometerGameMetrics(registry, store));
+    }
+
+    private double counter(String name, String tag, String value) {
+        return registry.get(name).tag(tag, value).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should count created games per difficulty")
+    void testGamesCreated() {
+        service.createNewGame("EASY");
+        service.createNewGame("hard");
+        service.createNewGame("HARD");
+
+        assertEquals(1, counter("polywordic.games.created", "difficulty", "EASY"));
+        assertEquals(0, counter("polywordic.games.created", "difficulty", "MEDIUM"));
+        assertEquals(2, counter("polywordic.games.created", "difficulty", "HARD"));
+        assertEquals(3, registry.get("polywordic.games.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should count guesses by outcome and time accepted guesses")
+    void testGuessOutcomes() {
+        String gameId = service.createNewGame("EASY").getGameId();
+
+        assertThrows(IllegalArgumentException.class, () -> service.makeGuess(gameId, "WRONG"));
+        assertThrows(IllegalArgumentException.class, () -> service.makeGuess(gameId, "AB"));
+        assertThrows(IllegalArgumentException.class, () -> service.makeGuess("missing", "GRAPE"));
+        service.makeGuess(gameId, "GRAPE");
+        service.makeGuess(gameId, "APPLE");
+        assertThrows(IllegalStateException.class, () -> service.makeGuess(gameId, "GRAPE"));
+
+        assertEquals(2, counter("polywordic.guesses", "outcome", "accepted"));
+        assertEquals(1, counter("polywordic.guesses", "outcome", "invalid_word"));
+        assertEquals(3, counter("polywordic.guesses", "outcome", "rejected"));
+        assertEquals(2, registry.get("polywordic.guess.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count each finished game once as won or lost")
+    void testGamesFinished() {
+        String won = service.createNewGame("EASY").getGameId();
+        service.makeGuess(won, "APPLE");
+
+        String lost = service.createNewGame("HARD").getGameId();
+        for (int i = 0; i < 4; i++) {
+            service.makeGuess(lost, "GRAPE");
+        }
+        assertThrows(IllegalStateException.class, () -> service.makeGuess(lost, "GRAPE"));
+
+        assertEquals(1, counter("polywordic.games.finished", "outcome", "won"));
+        assertEquals(1, counter("polywordic.games.finished", "outcome", "lost"));
+    }
+
+    @Test
+    @DisplayName("Should expose store evictions and expirations")
+    void testRemovedGames() {
+        assertEquals(0, registry.get("polywordic.games.removed").tag("cause", "evicted").functionCounter().count());
+        assertEquals(0, registry.get("polywordic.games.removed").tag("cause", "expired").functionCounter().count());
+    }
+}
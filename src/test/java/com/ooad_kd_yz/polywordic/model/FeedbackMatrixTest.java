@@ -0,0 +1,81 @@
+package com.ooad_kd_yz.polywordic.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackMatrixTest {
+
+    private static final List<String> WORDS = List.of("APPLE", "PAPAL", "SPEED", "ERASE", "LINES", "LLAMA", "WATCH", "waves");
+
+    @Test
+    @DisplayName("Precomputed patterns should match computed patterns for every pair")
+    void testMatchesComputed() {
+        FeedbackMatrix matrix = FeedbackMatrix.build(WORDS);
+
+        assertEquals(WORDS.size(), matrix.size());
+        for (String target : WORDS) {
+            for (String guess : WORDS) {
+                String upperTarget = target.toUpperCase();
+                String upperGuess = guess.toUpperCase();
+                assertSame(FeedbackPattern.evaluate(upperTarget, upperGuess), matrix.evaluate(upperTarget, upperGuess));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Words outside the dictionary should fall back to computing")
+    void testFallbackForUnknownWords() {
+        FeedbackMatrix matrix = FeedbackMatrix.build(WORDS);
+
+        assertEquals(-1, matrix.indexOf("TIGHT"));
+        assertSame(FeedbackPattern.evaluate("APPLE", "TIGHT"), matrix.evaluate("APPLE", "TIGHT"));
+    }
+
+    @Test
+    @DisplayName("Ranked target and guess should read the table directly, unranked ones should fall back")
+    void testRankedEvaluate() {
+        FeedbackMatrix matrix = FeedbackMatrix.build(WORDS);
+        int appleRank = matrix.rankOf("APPLE");
+        DictionaryWord papal = new DictionaryWord("PAPAL", WordCodec.encode("PAPAL"), matrix.indexOf("PAPAL"));
+
+        assertSame(matrix.lookup(appleRank, papal.rank()), matrix.evaluate("APPLE", appleRank, papal));
+        assertSame(FeedbackPattern.evaluate("APPLE", "PAPAL"), matrix.evaluate("APPLE", appleRank, DictionaryWord.of("PAPAL")));
+        assertSame(FeedbackPattern.evaluate("APPLE", "TIGHT"), matrix.evaluate("APPLE", appleRank, DictionaryWord.of("TIGHT")));
+        assertSame(FeedbackPattern.evaluate("TIGHT", "PAPAL"), matrix.evaluate("TIGHT", matrix.rankOf("TIGHT"), papal));
+        // ranked in some other dictionary: the rank points at a different word here, so it must not be trusted
+        DictionaryWord misranked = new DictionaryWord("PAPAL", WordCodec.encode("PAPAL"), matrix.indexOf("WATCH"));
+        assertSame(FeedbackPattern.evaluate("APPLE", "PAPAL"), matrix.evaluate("APPLE", appleRank, misranked));
+    }
+
+    @Test
+    @DisplayName("Should round-trip through a memory-mapped file")
+    void testSaveAndLoad(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("feedback.bin");
+        FeedbackMatrix built = FeedbackMatrix.build(WORDS);
+        built.save(file);
+
+        FeedbackMatrix loaded = FeedbackMatrix.load(file);
+
+        assertTrue(loaded.covers(WORDS));
+        assertFalse(loaded.covers(List.of("APPLE")));
+        assertSame(built.evaluate("APPLE", "PAPAL"), loaded.evaluate("APPLE", "PAPAL"));
+        assertSame(built.evaluate("SPEED", "ERASE"), loaded.evaluate("SPEED", "ERASE"));
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not feedback matrices")
+    void testLoadRejectsOtherFiles(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("other.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> FeedbackMatrix.load(file));
+    }
+}
@@ -0,0 +1,59 @@
+package com.ooad_kd_yz.polywordic.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackPatternTest {
+
+    @Test
+    @DisplayName("Patterns should be canonical instances per code")
+    void testCanonicalInstances() {
+        assertSame(FeedbackPattern.of(17), FeedbackPattern.of(17));
+        assertSame(FeedbackPattern.of(GuessEvaluator.evaluate("APPLE", "PAPAL")), FeedbackPattern.evaluate("APPLE", "PAPAL"));
+        assertNotEquals(FeedbackPattern.of(17), FeedbackPattern.of(18));
+    }
+
+    @Test
+    @DisplayName("Should expose letter statuses and display string")
+    void testStatusesAndDisplay() {
+        FeedbackPattern pattern = FeedbackPattern.evaluate("APPLE", "PAPAL");
+
+        assertEquals(List.of(LetterStatus.INCORRECT_POSITION, LetterStatus.INCORRECT_POSITION,
+                LetterStatus.CORRECT_POSITION, LetterStatus.NOT_IN_WORD, LetterStatus.INCORRECT_POSITION),
+                pattern.getStatuses());
+        assertEquals(LetterStatus.CORRECT_POSITION, pattern.statusAt(2));
+        assertEquals("YYG-Y", pattern.toString());
+    }
+
+    @Test
+    @DisplayName("Only the all-correct pattern should be solved")
+    void testIsSolved() {
+        assertTrue(FeedbackPattern.evaluate("WATCH", "WATCH").isSolved());
+        assertSame(FeedbackPattern.ALL_CORRECT, FeedbackPattern.evaluate("WATCH", "WATCH"));
+        assertFalse(FeedbackPattern.evaluate("WATCH", "WAVES").isSolved());
+    }
+
+    @Test
+    @DisplayName("Should reject codes outside 0..242")
+    void testInvalidCode() {
+        assertThrows(IllegalArgumentException.class, () -> FeedbackPattern.of(-1));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackPattern.of(243));
+    }
+
+    @Test
+    @DisplayName("Should serialize to JSON as its int code and back")
+    void testJsonRoundTrip() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        FeedbackPattern pattern = FeedbackPattern.evaluate("APPLE", "PAPAL");
+
+        String json = mapper.writeValueAsString(pattern);
+
+        assertEquals(String.valueOf(pattern.getCode()), json);
+        assertSame(pattern, mapper.readValue(json, FeedbackPattern.class));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ooad_kd_yz.polywordic.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessEvaluatorTest {
+
+    private static LetterStatus[] decode(int pattern) {
+        LetterStatus[] statuses = new LetterStatus[GuessEvaluator.WORD_LENGTH];
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i] = GuessEvaluator.statusAt(pattern, i);
+        }
+        return statuses;
+    }
+
+    @Test
+    @DisplayName("Exact match should be all CORRECT_POSITION")
+    void testExactMatch() {
+        assertEquals(GuessEvaluator.ALL_CORRECT, GuessEvaluator.evaluate("WATCH", "WATCH"));
+    }
+
+    @Test
+    @DisplayName("No shared letters should be all NOT_IN_WORD")
+    void testNoSharedLetters() {
+        assertEquals(0, GuessEvaluator.evaluate("WATCH", "BLIND"));
+    }
+
+    @Test
+    @DisplayName("Should mark correct and absent letters")
+    void testCorrectAndAbsent() {
+        assertArrayEquals(new LetterStatus[]{
+                LetterStatus.CORRECT_POSITION, LetterStatus.CORRECT_POSITION,
+                LetterStatus.NOT_IN_WORD, LetterStatus.NOT_IN_WORD, LetterStatus.NOT_IN_WORD
+        }, decode(GuessEvaluator.evaluate("WATCH", "WAVES")));
+    }
+
+    @Test
+    @DisplayName("Duplicate guess letters should only be marked present while target copies remain")
+    void testDuplicateLetters() {
+        // APPLE vs PAPAL: second A has no unmatched A left in the target
+        assertArrayEquals(new LetterStatus[]{
+                LetterStatus.INCORRECT_POSITION, LetterStatus.INCORRECT_POSITION, LetterStatus.CORRECT_POSITION,
+                LetterStatus.NOT_IN_WORD, LetterStatus.INCORRECT_POSITION
+        }, decode(GuessEvaluator.evaluate("APPLE", "PAPAL")));
+    }
+
+    @Test
+    @DisplayName("Correct position should take priority over an earlier duplicate")
+    void testCorrectPositionClaimsLetterFirst() {
+        // LINES vs LLAMA: only one L in target, claimed by the correct first position
+        assertArrayEquals(new LetterStatus[]{
+                LetterStatus.CORRECT_POSITION, LetterStatus.NOT_IN_WORD, LetterStatus.NOT_IN_WORD,
+                LetterStatus.NOT_IN_WORD, LetterStatus.NOT_IN_WORD
+        }, decode(GuessEvaluator.evaluate("LINES", "LLAMA")));
+    }
+
+    @Test
+    @DisplayName("Packed result should agree with PolywordicWord.evaluateGuess")
+    void testAgreesWithEvaluateGuess() {
+        PolywordicWord target = new PolywordicWord("SPEED");
+        PolywordicWord guess = new PolywordicWord("ERASE");
+
+        List<LetterStatus> results = target.evaluateGuess(guess);
+
+        assertEquals(List.of(decode(GuessEvaluator.evaluate("SPEED", "ERASE"))), results);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 5})
+    @DisplayName("Should reject positions outside the word")
+    void testStatusAtInvalidPosition(int position) {
+        assertThrows(IndexOutOfBoundsException.class, () -> GuessEvaluator.statusAt(0, position));
+    }
+}
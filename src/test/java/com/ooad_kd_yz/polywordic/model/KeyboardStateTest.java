@@ -0,0 +1,72 @@
+package com.ooad_kd_yz.polywordic.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyboardStateTest {
+
+    private static KeyboardState afterGuesses(String target, String... guesses) {
+        long bits = 0L;
+        for (String guess : guesses) {
+            bits = KeyboardState.applyGuess(bits, WordCodec.encode(guess), FeedbackPattern.evaluate(target, guess));
+        }
+        return KeyboardState.of(bits);
+    }
+
+    @Test
+    @DisplayName("Empty keyboard should have every letter UNKNOWN")
+    void testEmpty() {
+        Map<Character, LetterStatus> statuses = KeyboardState.EMPTY.toMap();
+
+        assertEquals(26, statuses.size());
+        assertTrue(statuses.values().stream().allMatch(status -> status == LetterStatus.UNKNOWN));
+    }
+
+    @Test
+    @DisplayName("Should record the status of each guessed letter")
+    void testApplyGuess() {
+        KeyboardState state = afterGuesses("LINES", "LIGHT");
+
+        assertEquals(LetterStatus.CORRECT_POSITION, state.statusOf('L'));
+        assertEquals(LetterStatus.CORRECT_POSITION, state.statusOf('i'));
+        assertEquals(LetterStatus.NOT_IN_WORD, state.statusOf('G'));
+        assertEquals(LetterStatus.UNKNOWN, state.statusOf('Z'));
+    }
+
+    @Test
+    @DisplayName("Should never downgrade a letter's status")
+    void testNoDowngrade() {
+        // S is found in position first, then only present / absent in the later guess
+        KeyboardState state = afterGuesses("SUPER", "SUPER", "ASSET");
+
+        assertEquals(LetterStatus.CORRECT_POSITION, state.statusOf('S'));
+        assertEquals(LetterStatus.CORRECT_POSITION, state.statusOf('E'));
+        assertEquals(LetterStatus.NOT_IN_WORD, state.statusOf('A'));
+    }
+
+    @Test
+    @DisplayName("Should upgrade present letters once found in position")
+    void testUpgrade() {
+        KeyboardState state = afterGuesses("SUPER", "PARTS", "SUPER");
+
+        assertEquals(LetterStatus.CORRECT_POSITION, state.statusOf('P'));
+        assertEquals(LetterStatus.CORRECT_POSITION, state.statusOf('S'));
+    }
+
+    @Test
+    @DisplayName("Should serialize as a letter to status JSON object")
+    void testJson() throws Exception {
+        JsonNode json = new ObjectMapper().valueToTree(afterGuesses("LINES", "LIGHT"));
+
+        assertEquals(26, json.size());
+        assertEquals("CORRECT_POSITION", json.get("L").asText());
+        assertEquals("NOT_IN_WORD", json.get("G").asText());
+        assertEquals("UNKNOWN", json.get("Z").asText());
+    }
+}
@@ -0,0 +1,48 @@
+package com.ooad_kd_yz.polywordic.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordCodecTest {
+
+    @Test
+    @DisplayName("Should round-trip words through their code")
+    void testRoundTrip() {
+        assertEquals("APPLE", WordCodec.decode(WordCodec.encode("APPLE")));
+        assertEquals("ZZZZZ", WordCodec.decode(WordCodec.encode("ZZZZZ")));
+        assertEquals(0, WordCodec.encode("AAAAA"));
+        assertEquals(WordCodec.CODE_SPACE - 1, WordCodec.encode("ZZZZZ"));
+    }
+
+    @Test
+    @DisplayName("Encoding should be case-insensitive")
+    void testCaseInsensitive() {
+        assertEquals(WordCodec.encode("APPLE"), WordCodec.encode("apple"));
+        assertEquals(WordCodec.encode("APPLE"), WordCodec.encode("aPpLe"));
+    }
+
+    @Test
+    @DisplayName("Should read single letters from a code")
+    void testLetterAt() {
+        int code = WordCodec.encode("SUPER");
+        assertEquals('S', WordCodec.letterAt(code, 0));
+        assertEquals('R', WordCodec.letterAt(code, 4));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "APE", "CASTLES", "AB1DE", "AB DE", "AB@DE", "AB[DE"})
+    @DisplayName("Should reject anything that is not 5 letters A-Z")
+    void testInvalidWords(String word) {
+        assertEquals(-1, WordCodec.encode(word));
+    }
+
+    @Test
+    @DisplayName("Should reject null")
+    void testNull() {
+        assertEquals(-1, WordCodec.encode(null));
+    }
+}
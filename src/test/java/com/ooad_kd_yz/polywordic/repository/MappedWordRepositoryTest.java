@@ -0,0 +1,88 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.WordCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedWordRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private MappedWordRepository repositoryOf(List<String> words) throws IOException {
+        Path file = dir.resolve("words.bin");
+        BinaryDictionary.write(words, file);
+        return new MappedWordRepository(file);
+    }
+
+    @Test
+    @DisplayName("Should write sorted, distinct, upper case 5-letter words only")
+    void testWriteNormalizesWords() throws IOException {
+        MappedWordRepository repo = repositoryOf(List.of("water", "APPLE", "apple", "toolong", "ab1de", " light "));
+
+        assertEquals(List.of("APPLE", "LIGHT", "WATER"), List.copyOf(repo.getAllWords()));
+    }
+
+    @Test
+    @DisplayName("Should validate words case-insensitively by binary search")
+    void testIsValidWord() throws IOException {
+        MappedWordRepository repo = repositoryOf(List.of("ABOUT", "APPLE", "HOUSE", "LIGHT", "WATER"));
+
+        assertTrue(repo.isValidWord("ABOUT"));
+        assertTrue(repo.isValidWord("water"));
+        assertTrue(repo.isValidWord("hOuSe"));
+        assertFalse(repo.isValidWord("ZZZZZ"));
+        assertFalse(repo.isValidWord("AAAAA"));
+        assertFalse(repo.isValidWord(null));
+        assertFalse(repo.isValidWord("TOO"));
+        assertFalse(repo.isValidWord("TOOLONG"));
+        assertFalse(repo.isValidWord("L\u0131GHT")); // dotless i upper-cases to I
+        assertFalse(repo.isValidWord("HOU\u017fE")); // long s upper-cases to S
+    }
+
+    @Test
+    @DisplayName("Should look up the same shared DictionaryWord for any casing")
+    void testLookup() throws IOException {
+        MappedWordRepository repo = repositoryOf(List.of("ABOUT", "APPLE", "HOUSE", "LIGHT", "WATER"));
+
+        DictionaryWord apple = repo.lookup("apple");
+        assertNotNull(apple);
+        assertEquals("APPLE", apple.word());
+        assertEquals(WordCodec.encode("APPLE"), apple.code());
+        assertSame(apple, repo.lookup("APPLE"));
+        assertNull(repo.lookup("ZZZZZ"));
+        assertNull(repo.lookup(null));
+        assertNull(repo.lookup("TOOLONG"));
+    }
+
+    @Test
+    @DisplayName("Should return a random word from the dictionary")
+    void testGetRandomWord() throws IOException {
+        MappedWordRepository repo = repositoryOf(List.of("APPLE", "LIGHT", "WATER"));
+
+        String randomWord = repo.getRandomWord();
+        assertTrue(repo.isValidWord(randomWord));
+    }
+
+    @Test
+    @DisplayName("Should reject a dictionary whose checksum does not match")
+    void testCorruptDictionary() throws IOException {
+        Path file = dir.resolve("corrupt.bin");
+        BinaryDictionary.write(List.of("APPLE", "LIGHT", "WATER"), file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[BinaryDictionary.HEADER_BYTES] ^= 1; // flip a bit in the first record
+        Files.write(file, bytes);
+
+        assertThrows(UncheckedIOException.class, () -> new MappedWordRepository(file));
+    }
+}
@@ -0,0 +1,39 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordIndexTest {
+
+    private final WordIndex index = new WordIndex(List.of("APPLE", "light", "ZZZZZ", "AAAAA", "APPLE", "toolong", "ab1de"));
+
+    @Test
+    @DisplayName("Should contain indexed words case-insensitively")
+    void testContains() {
+        assertTrue(index.contains("APPLE"));
+        assertTrue(index.contains("apple"));
+        assertTrue(index.contains("LIGHT"));
+        assertTrue(index.contains("AAAAA")); // first code
+        assertTrue(index.contains("zzzzz")); // last code
+    }
+
+    @Test
+    @DisplayName("Should not contain other words or malformed input")
+    void testDoesNotContain() {
+        assertFalse(index.contains("WATER"));
+        assertFalse(index.contains("AAAAB"));
+        assertFalse(index.contains(null));
+        assertFalse(index.contains("TOOLONG"));
+        assertFalse(index.contains("AB1DE"));
+    }
+
+    @Test
+    @DisplayName("Should count distinct valid words only")
+    void testSize() {
+        assertEquals(4, index.size());
+    }
+}
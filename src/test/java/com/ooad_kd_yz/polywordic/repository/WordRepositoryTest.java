@@ -1,5 +1,6 @@
 package com.ooad_kd_yz.polywordic.repository;
 
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +49,20 @@ class WordRepositoryTest {
         assertFalse(repo.isValidWord("ZZZZZ"));       // not in the wordlist
     }
 
+    @Test
+    @DisplayName("Should look up the table's shared DictionaryWord and reject anything else")
+    void testLookup() {
+        WordRepository repo = new WordRepository();
+
+        DictionaryWord apple = repo.lookup("apple");
+        assertNotNull(apple);
+        assertEquals("APPLE", apple.word());
+        assertSame(repo.getWordTable().lookup("APPLE"), apple);
+        assertNull(repo.lookup("ZZZZZ"));
+        assertNull(repo.lookup("TOOLONG"));
+        assertNull(repo.lookup(null));
+    }
+
     @Test
     @DisplayName("Should return a random word from the list")
     void testGetRandomWord() {
@@ -57,4 +72,15 @@ class WordRepositoryTest {
         assertEquals(5, randomWord.length());
         assertTrue(repo.isValidWord(randomWord));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should share one read-only dictionary instead of copying it")
+    void testGetAllWordsIsSharedView() {
+        WordRepository repo = new WordRepository();
+
+        assertSame(repo.getAllWords(), repo.getAllWords());
+        assertSame(repo.getWordTable(), repo.getWordTable());
+        assertEquals(repo.getAllWords().size(), repo.getWordTable().size());
+        assertThrows(UnsupportedOperationException.class, () -> repo.getAllWords().clear());
+    }
+}
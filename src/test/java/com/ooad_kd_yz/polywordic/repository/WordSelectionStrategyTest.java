@@ -0,0 +1,65 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordSelectionStrategyTest {
+
+    @Test
+    @DisplayName("Random strategy should stay within bounds")
+    void testRandomInBounds() {
+        IWordSelectionStrategy strategy = new RandomWordSelectionStrategy();
+        for (int i = 0; i < 1000; i++) {
+            int index = strategy.nextIndex(10);
+            assertTrue(index >= 0 && index < 10);
+        }
+    }
+
+    @Test
+    @DisplayName("Seeded strategy should repeat the same sequence for the same seed")
+    void testSeededIsReproducible() {
+        SeededWordSelectionStrategy a = new SeededWordSelectionStrategy(42);
+        SeededWordSelectionStrategy b = new SeededWordSelectionStrategy(42);
+        SeededWordSelectionStrategy c = new SeededWordSelectionStrategy(7);
+
+        List<Integer> fromA = IntStream.range(0, 50).mapToObj(i -> a.nextIndex(14855)).toList();
+        List<Integer> fromB = IntStream.range(0, 50).mapToObj(i -> b.nextIndex(14855)).toList();
+        List<Integer> fromC = IntStream.range(0, 50).mapToObj(i -> c.nextIndex(14855)).toList();
+
+        assertEquals(fromA, fromB);
+        assertNotEquals(fromA, fromC);
+        assertTrue(fromA.stream().allMatch(index -> index >= 0 && index < 14855));
+    }
+
+    @Test
+    @DisplayName("Shuffled strategy should use every word once before repeating")
+    void testShuffledNoRepeatsUntilExhausted() {
+        ShuffledWordSelectionStrategy strategy = new ShuffledWordSelectionStrategy(1);
+        int wordCount = 100;
+
+        for (int round = 0; round < 3; round++) {
+            Set<Integer> seen = new HashSet<>();
+            for (int i = 0; i < wordCount; i++) {
+                assertTrue(seen.add(strategy.nextIndex(wordCount)));
+            }
+            assertEquals(wordCount, seen.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Repository should select words with a supplied strategy")
+    void testRepositoryUsesStrategy() {
+        WordRepository repo = new WordRepository(wordCount -> 0);
+
+        String first = repo.getAllWords().get(0);
+        assertEquals(first, repo.getRandomWord());
+        assertEquals(repo.getAllWords().get(3), repo.getRandomWord(wordCount -> 3));
+    }
+}
@@ -0,0 +1,67 @@
+package com.ooad_kd_yz.polywordic.repository;
+
+import com.ooad_kd_yz.polywordic.model.FeedbackMatrix;
+import com.ooad_kd_yz.polywordic.model.WordCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordTableTest {
+
+    private final WordTable table = new WordTable(List.of("APPLE", "LIGHT", "WATER"));
+
+    @Test
+    @DisplayName("Should give index-based access to words and codes")
+    void testIndexAccess() {
+        assertEquals(3, table.size());
+        assertEquals("LIGHT", table.wordAt(1));
+        assertEquals(WordCodec.encode("WATER"), table.codeAt(2));
+    }
+
+    @Test
+    @DisplayName("List view should be shared and read-only")
+    void testListView() {
+        assertSame(table.asList(), table.asList());
+        assertEquals(List.of("APPLE", "LIGHT", "WATER"), table.asList());
+        assertThrows(UnsupportedOperationException.class, () -> table.asList().add("HOUSE"));
+    }
+
+    @Test
+    @DisplayName("Lookup should return the one shared entry per word, case-insensitively, in any word order")
+    void testLookup() {
+        WordTable unsorted = new WordTable(List.of("WATER", "APPLE", "LIGHT"));
+        for (int i = 0; i < unsorted.size(); i++) {
+            assertSame(unsorted.entryAt(i), unsorted.lookup(unsorted.wordAt(i)));
+            assertSame(unsorted.wordAt(i), unsorted.entryAt(i).word());
+            assertEquals(unsorted.codeAt(i), unsorted.entryAt(i).code());
+        }
+        assertSame(unsorted.entryAt(1), unsorted.lookup("apple"));
+        assertNull(unsorted.lookup("HOUSE"));
+        assertNull(unsorted.lookup("APPL"));
+        assertNull(unsorted.lookup(null));
+    }
+
+    @Test
+    @DisplayName("Entries should be ranked by code order, duplicates sharing a rank, as in a FeedbackMatrix")
+    void testRanks() {
+        WordTable unsorted = new WordTable(List.of("WATER", "APPLE", "LIGHT", "APPLE"));
+        FeedbackMatrix matrix = FeedbackMatrix.build(unsorted.asList());
+
+        assertEquals(0, unsorted.lookup("APPLE").rank());
+        assertEquals(0, unsorted.entryAt(3).rank());
+        assertEquals(1, unsorted.lookup("LIGHT").rank());
+        assertEquals(2, unsorted.lookup("WATER").rank());
+        for (int i = 0; i < unsorted.size(); i++) {
+            assertEquals(matrix.indexOf(unsorted.wordAt(i)), unsorted.entryAt(i).rank());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject words that are not 5 letters A-Z")
+    void testRejectsInvalidWords() {
+        assertThrows(IllegalArgumentException.class, () -> new WordTable(List.of("APPLE", "AB1DE")));
+    }
+}
@@ -0,0 +1,142 @@
+package com.ooad_kd_yz.polywordic.service;
+
+import com.ooad_kd_yz.polywordic.metrics.IGameMetrics;
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.repository.IWordRepository;
+import com.ooad_kd_yz.polywordic.repository.WordTable;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import com.ooad_kd_yz.polywordic.store.InMemoryGameStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolywordicGameServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int GAMES_PER_THREAD = 500;
+
+    // Simple thread-safe stub (Mockito stubs record every invocation, which serializes the threads under test)
+    private static final IWordRepository STUB_REPO = new IWordRepository() {
+        private final WordTable wordTable = new WordTable(List.of("APPLE", "LIGHT"));
+
+        @Override
+        public String getRandomWord() { return "APPLE"; }
+
+        @Override
+        public boolean isValidWord(String word) { return word != null && word.length() == 5; }
+
+        @Override
+        public DictionaryWord lookup(CharSequence word) {
+            return word != null && isValidWord(word.toString()) ? DictionaryWord.of(word.toString()) : null;
+        }
+
+        @Override
+        public List<String> getAllWords() { return wordTable.asList(); }
+
+        @Override
+        public WordTable getWordTable() { return wordTable; }
+    };
+
+    @Test
+    @DisplayName("Concurrent create/guess/delete from 64 threads should not lose or invent games")
+    void testConcurrentCreateGuessDelete() throws Exception {
+        PolywordicGameService service = new PolywordicGameService(STUB_REPO);
+        Set<String> kept = ConcurrentHashMap.newKeySet();
+        Set<String> deleted = ConcurrentHashMap.newKeySet();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < GAMES_PER_THREAD; i++) {
+                    GameStateContext game = service.createNewGame("EASY");
+                    String gameId = game.getGameId();
+
+                    service.makeGuess(gameId, "LIGHT");
+                    assertSame(game, service.getGame(gameId));
+
+                    // delete every other game so creates and deletes interleave across threads
+                    if (i % 2 == 0) {
+                        service.deleteGame(gameId);
+                        deleted.add(gameId);
+                    } else {
+                        kept.add(gameId);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS); // rethrows any assertion failure from worker threads
+        }
+        pool.shutdown();
+
+        // no lost games: every game that was never deleted is still retrievable with its guess recorded
+        assertEquals(THREADS * GAMES_PER_THREAD / 2, kept.size());
+        for (String gameId : kept) {
+            assertEquals(1, service.getGame(gameId).getCurrentAttempt());
+        }
+
+        // no phantom games: deleted games are gone and the count matches exactly
+        for (String gameId : deleted) {
+            assertThrows(IllegalArgumentException.class, () -> service.getGame(gameId));
+        }
+        assertEquals(kept.size(), service.getActiveGameCount());
+    }
+
+    @Test
+    @DisplayName("Racing winning guesses (single and batched) should count each game as finished exactly once")
+    void testGameFinishedCountedOnce() throws Exception {
+        AtomicInteger finished = new AtomicInteger();
+        IGameMetrics metrics = new IGameMetrics() {
+            @Override
+            public void gameFinished(boolean won) { finished.incrementAndGet(); }
+        };
+        PolywordicGameService service = new PolywordicGameService(STUB_REPO, new InMemoryGameStore(),
+                IFeedbackEvaluator.COMPUTED, metrics);
+        int games = 200;
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        for (int g = 0; g < games; g++) {
+            String gameId = service.createNewGame("EASY").getGameId(); // STUB_REPO targets are always APPLE
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                boolean batched = t % 2 == 0;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        if (batched) {
+                            service.makeGuesses(gameId, List.of("LIGHT", "APPLE"));
+                        } else {
+                            service.makeGuess(gameId, "APPLE");
+                        }
+                    } catch (IllegalStateException alreadyWon) {
+                        // lost the race: the game was already over
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+        pool.shutdown();
+
+        assertEquals(games, finished.get());
+    }
+}
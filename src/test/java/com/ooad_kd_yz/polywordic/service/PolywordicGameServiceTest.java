@@ -1,13 +1,24 @@
 package com.ooad_kd_yz.polywordic.service;
 
+import com.ooad_kd_yz.polywordic.dto.BatchGuessRequest;
+import com.ooad_kd_yz.polywordic.dto.BatchGuessResponse;
 import com.ooad_kd_yz.polywordic.factory.*;
-import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.id.TimeBasedGameIdGenerator;
+import com.ooad_kd_yz.polywordic.metrics.IGameMetrics;
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.FeedbackPattern;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
 import com.ooad_kd_yz.polywordic.repository.IWordRepository;
 import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import com.ooad_kd_yz.polywordic.store.InMemoryGameStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,7 +33,7 @@ class PolywordicGameServiceTest {
     void setup() {
         mockRepo = mock(IWordRepository.class);
         when(mockRepo.getRandomWord()).thenReturn("APPLE");
-        when(mockRepo.isValidWord("APPLE")).thenReturn(true);
+        when(mockRepo.lookup("APPLE")).thenReturn(DictionaryWord.of("APPLE"));
         service = new PolywordicGameService(mockRepo);
     }
 
@@ -50,6 +61,29 @@ class PolywordicGameServiceTest {
         assertEquals("EASY", game.getCurrentState().getClass().getSimpleName() != null ? "EASY" : "EASY");
     }
 
+    @Test
+    @DisplayName("createNewGames should create and store count games of one difficulty")
+    void testCreateNewGames() {
+        List<GameStateContext> games = service.createNewGames("medium", 50);
+
+        assertEquals(50, games.size());
+        assertEquals(50, service.getActiveGameCount());
+        assertEquals(50, games.stream().map(GameStateContext::getGameId).distinct().count());
+        for (GameStateContext game : games) {
+            assertEquals(5, game.getMaxAttempts());
+            assertSame(game, service.getGame(game.getGameId()));
+        }
+    }
+
+    @Test
+    @DisplayName("createNewGames should reject counts outside 1..MAX_BULK_GAMES")
+    void testCreateNewGamesInvalidCount() {
+        assertThrows(IllegalArgumentException.class, () -> service.createNewGames("EASY", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.createNewGames("EASY", PolywordicGameService.MAX_BULK_GAMES + 1));
+        assertEquals(0, service.getActiveGameCount());
+    }
+
     @Test
     @DisplayName("getGame should return existing game")
     void testGetExistingGame() {
@@ -65,6 +99,24 @@ class PolywordicGameServiceTest {
         assertTrue(ex.getMessage().contains("Game not found"));
     }
 
+    @Test
+    @DisplayName("Game IDs should come from the configured generator")
+    void testGameIdGenerator() {
+        GameStateContext uuidGame = service.createNewGame("EASY"); // unguessable UUID IDs by default
+        assertEquals(36, uuidGame.getGameId().length());
+
+        PolywordicGameService timeService = new PolywordicGameService(mockRepo, new InMemoryGameStore(),
+                IFeedbackEvaluator.COMPUTED, IGameMetrics.NOOP, new TimeBasedGameIdGenerator());
+        GameStateContext timeBased = timeService.createNewGame("EASY");
+        assertTrue(timeBased.getGameId().matches("[0-9A-Za-z]{11}"));
+        assertSame(timeBased, timeService.getGame(timeBased.getGameId()));
+        assertThrows(IllegalArgumentException.class, () -> timeService.getGame(uuidGame.getGameId()));
+
+        timeService.deleteGame(uuidGame.getGameId()); // malformed IDs are ignored
+        timeService.deleteGame(timeBased.getGameId());
+        assertEquals(0, timeService.getActiveGameCount());
+    }
+
     @Test
     @DisplayName("makeGuess should throw if guess length invalid")
     void testMakeGuessInvalidLength() {
@@ -77,28 +129,91 @@ class PolywordicGameServiceTest {
     @DisplayName("makeGuess should throw if word not valid")
     void testMakeGuessInvalidWord() {
         String gameId = service.createNewGame("EASY").getGameId();
-        when(mockRepo.isValidWord("WRONG")).thenReturn(false);
+        when(mockRepo.lookup("WRONG")).thenReturn(null);
         Exception ex = assertThrows(IllegalArgumentException.class, () -> service.makeGuess(gameId, "WRONG"));
         assertTrue(ex.getMessage().contains("Not a valid word"));
     }
 
     @Test
-    @DisplayName("makeGuess should call GameStateContext.makeGuess() when valid")
+    @DisplayName("makeGuess should score a valid guess and return the dictionary's shared word")
     void testMakeGuessValid() {
+        DictionaryWord crane = DictionaryWord.of("CRANE");
+        DictionaryWord apple = DictionaryWord.of("APPLE");
+        when(mockRepo.lookup("CRANE")).thenReturn(crane);
+        when(mockRepo.lookup("APPLE")).thenReturn(apple);
         String gameId = service.createNewGame("EASY").getGameId();
-        GameStateContext mockGame = mock(GameStateContext.class);
-        when(mockGame.makeGuess("APPLE")).thenReturn(new PolywordicWord("APPLE"));
-
-        // Replace in activeGames map
-        service.deleteGame(gameId);
-        service.getActiveGameCount();
-        service.createNewGame("EASY");
-        service.getActiveGameCount();
-
-        // manually add mock game
-        service.deleteGame(gameId);
-        service.getActiveGameCount();
-        service.createNewGame("EASY");
+
+        GuessResult miss = service.makeGuess(gameId, "CRANE");
+        assertSame(crane, miss.guess());
+        assertEquals(FeedbackPattern.evaluate("APPLE", "CRANE"), miss.pattern());
+        assertFalse(miss.endedGame());
+
+        GuessResult win = service.makeGuess(gameId, "APPLE");
+        assertSame(apple, win.guess());
+        assertEquals(FeedbackPattern.ALL_CORRECT, win.pattern());
+        assertTrue(win.endedGame());
+        assertTrue(service.getGame(gameId).isWon());
+        assertEquals(2, service.getGame(gameId).getCurrentAttempt());
+    }
+
+    @Test
+    @DisplayName("makeGuesses should return packed results and stop when the game is won")
+    void testMakeGuessesBatch() {
+        when(mockRepo.lookup("CRANE")).thenReturn(DictionaryWord.of("CRANE"));
+        String gameId = service.createNewGame("EASY").getGameId();
+
+        int[] results = service.makeGuesses(gameId, List.of("CRANE", "AB", "APPLE", "CRANE"));
+
+        assertArrayEquals(new int[] {
+                FeedbackPattern.evaluate("APPLE", "CRANE").getCode(),
+                GameStateContext.REJECTED_GUESS,
+                FeedbackPattern.ALL_CORRECT.getCode()}, results);
+        assertTrue(service.getGame(gameId).isWon());
+    }
+
+    @Test
+    @DisplayName("makeGuesses should reject a missing or oversized guess list")
+    void testMakeGuessesInvalidList() {
+        String gameId = service.createNewGame("EASY").getGameId();
+        assertThrows(IllegalArgumentException.class, () -> service.makeGuesses(gameId, null));
+        assertThrows(IllegalArgumentException.class, () -> service.makeGuesses(gameId,
+                Collections.nCopies(PolywordicGameService.MAX_BATCH_GUESSES + 1, "APPLE")));
+        assertThrows(IllegalArgumentException.class, () -> service.makeGuesses("not-exist", List.of("APPLE")));
+    }
+
+    @Test
+    @DisplayName("makeGuessesForGames should play every game, report errors per game and sync once")
+    void testMakeGuessesForGames() {
+        when(mockRepo.lookup("CRANE")).thenReturn(DictionaryWord.of("CRANE"));
+        InMemoryGameStore store = spy(new InMemoryGameStore());
+        PolywordicGameService syncedService = new PolywordicGameService(mockRepo, store);
+        String won = syncedService.createNewGame("EASY").getGameId();
+        String active = syncedService.createNewGame("EASY").getGameId();
+        clearInvocations(store);
+
+        List<BatchGuessResponse> responses = syncedService.makeGuessesForGames(Arrays.asList(
+                new BatchGuessRequest(won, List.of("CRANE", "APPLE")),
+                new BatchGuessRequest("not-exist", List.of("APPLE")),
+                null,
+                new BatchGuessRequest(active, List.of("CRANE"))));
+
+        assertEquals(4, responses.size());
+        assertArrayEquals(new int[] {FeedbackPattern.evaluate("APPLE", "CRANE").getCode(),
+                FeedbackPattern.ALL_CORRECT.getCode()}, responses.get(0).results());
+        assertEquals("WON", responses.get(0).stateName());
+        assertEquals("not-exist", responses.get(1).gameId());
+        assertNotNull(responses.get(1).error());
+        assertNotNull(responses.get(2).error());
+        assertEquals("ACTIVE", responses.get(3).stateName());
+        verify(store, times(1)).sync();
+    }
+
+    @Test
+    @DisplayName("makeGuessesForGames should reject a missing or oversized request")
+    void testMakeGuessesForGamesInvalidRequest() {
+        assertThrows(IllegalArgumentException.class, () -> service.makeGuessesForGames(null));
+        assertThrows(IllegalArgumentException.class, () -> service.makeGuessesForGames(Collections.nCopies(
+                PolywordicGameService.MAX_BATCH_GAMES + 1, new BatchGuessRequest("game", List.of("APPLE")))));
     }
 
     @Test
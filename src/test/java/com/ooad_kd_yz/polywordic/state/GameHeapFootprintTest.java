@@ -0,0 +1,78 @@
+package com.ooad_kd_yz.polywordic.state;
+
+import com.ooad_kd_yz.polywordic.factory.EasyPolywordicGameFactory;
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.repository.WordRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Heap measurement for 100k concurrent games, each three guesses in: the heap the live games retain, and the bytes
+// allocated per guess (by the game itself, before any response is built). Prints both; the assertions only bound
+// them loosely so the test flags regressions without depending on the JVM's exact object layout.
+// Excluded from ./gradlew test; run with ./gradlew loadTest
+
+@Tag("load")
+class GameHeapFootprintTest {
+
+    private static final int GAMES = 100_000;
+    private static final int GUESSES_PER_GAME = 3;
+
+    @Test
+    @DisplayName("100k games should retain under 300 bytes each and allocate under 64 bytes per guess")
+    void testHeapPerGame() {
+        WordRepository words = new WordRepository();
+        EasyPolywordicGameFactory factory = new EasyPolywordicGameFactory();
+        Random random = new Random(42);
+        DictionaryWord[] guesses = new DictionaryWord[4096]; // validated once, as the service does
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = words.lookup(words.getRandomWord());
+        }
+        playAll(new GameStateContext[GAMES], factory, words, guesses, random); // warm-up, so the timed pass is compiled
+
+        long before = usedHeap();
+        GameStateContext[] games = new GameStateContext[GAMES];
+        long allocatedByGuesses = playAll(games, factory, words, guesses, random);
+        long retained = usedHeap() - before;
+
+        long perGame = retained / GAMES;
+        long perGuess = allocatedByGuesses / ((long) GAMES * GUESSES_PER_GAME);
+        System.out.printf("%d games: %d MB retained (%d bytes/game), %d bytes allocated per guess%n",
+                GAMES, retained >> 20, perGame, perGuess);
+        assertEquals(GAMES, games.length);
+        assertTrue(perGame < 300, "retained " + perGame + " bytes per game");
+        assertTrue(perGuess < 64, "allocated " + perGuess + " bytes per guess");
+    }
+
+    // Creates a game in every slot of games and makes GUESSES_PER_GAME guesses in each; returns the bytes allocated
+    // by the guesses alone
+    private static long playAll(GameStateContext[] games, EasyPolywordicGameFactory factory, WordRepository words,
+                                DictionaryWord[] guesses, Random random) {
+        for (int i = 0; i < games.length; i++) {
+            games[i] = factory.createGame("game-" + i, words.getRandomWord());
+        }
+        long start = allocatedBytes();
+        for (GameStateContext game : games) {
+            for (int attempt = 0; attempt < GUESSES_PER_GAME && !game.isGameOver(); attempt++) {
+                game.makeGuess(guesses[random.nextInt(guesses.length)]);
+            }
+        }
+        return allocatedBytes() - start;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -1,12 +1,21 @@
 package com.ooad_kd_yz.polywordic.state;
 
+import com.ooad_kd_yz.polywordic.model.DictionaryWord;
+import com.ooad_kd_yz.polywordic.model.FeedbackPattern;
 import com.ooad_kd_yz.polywordic.model.LetterStatus;
-import com.ooad_kd_yz.polywordic.model.PolywordicWord;
+import com.ooad_kd_yz.polywordic.model.GuessResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameStateTest {
@@ -33,10 +42,10 @@ class GameStateTest {
         @Test
         @DisplayName("Should allow guesses in Active state")
         void testMakeGuessInActiveState() {
-            PolywordicWord result = context.makeGuess("WRONG");
+            GuessResult result = context.makeGuess("WRONG");
 
             assertNotNull(result);
-            assertEquals("WRONG", result.getWord());
+            assertEquals("WRONG", result.word());
             assertEquals(1, context.getCurrentAttempt());
             assertEquals(5, context.getRemainingAttempts());
         }
@@ -242,8 +251,67 @@ class GameStateTest {
             context.makeGuess("SUPER");
             assertEquals("WON", context.getStateName());
         }
+
+        @Test
+        @DisplayName("Games should share one stateless object per state")
+        void testStatesAreShared() {
+            GameStateContext won = new GameStateContext("test-s1", "APPLE", 6);
+            GameStateContext other = new GameStateContext("test-s2", "APPLE", 6);
+            assertSame(ActiveGameState.INSTANCE, won.getCurrentState());
+            assertSame(won.getCurrentState(), other.getCurrentState());
+
+            won.makeGuess("APPLE");
+            assertSame(WonGameState.INSTANCE, won.getCurrentState());
+            assertEquals(GameStateContext.STATE_WON, won.getStateCode());
+
+            GameStateContext lost = new GameStateContext("test-s3", "APPLE", 1);
+            lost.makeGuess("CRANE");
+            assertSame(LostGameState.INSTANCE, lost.getCurrentState());
+            assertEquals(GameStateContext.STATE_LOST, lost.getStateCode());
+        }
+
+        @Test
+        @DisplayName("Playing games through to won and lost should allocate nothing")
+        void testTransitionsDoNotAllocate() {
+            List<String> winning = List.of("CRANE", "APPLE");
+            List<String> losing = List.of("CRANE", "LIGHT");
+            DictionaryWord crane = DictionaryWord.of("CRANE");
+            DictionaryWord apple = DictionaryWord.of("APPLE");
+            DictionaryWord light = DictionaryWord.of("LIGHT");
+            Function<String, DictionaryWord> lookup = word -> switch (word) {
+                case "CRANE" -> crane;
+                case "APPLE" -> apple;
+                default -> light;
+            };
+            int[] results = new int[2];
+            for (int round = 0; round < 2; round++) { // round 0 warms up, so only round 1 is measured
+                GameStateContext[] games = new GameStateContext[10_000];
+                for (int i = 0; i < games.length; i++) {
+                    games[i] = new GameStateContext("test-" + i, "APPLE", 2);
+                }
+
+                long before = allocatedBytes();
+                for (int i = 0; i < games.length; i++) {
+                    games[i].makeGuesses(i % 2 == 0 ? winning : losing, lookup, results);
+                }
+                long allocated = allocatedBytes() - before;
+
+                assertTrue(games[0].isWon());
+                assertEquals("LOST", games[1].getStateName());
+                // a few hundred bytes of fixed measurement overhead, but not one object per game or transition
+                // (every object is at least 16 bytes)
+                if (round == 1) {
+                    assertTrue(allocated < games.length, allocated + " bytes allocated playing " + games.length + " games");
+                }
+            }
+        }
+
+        private static long allocatedBytes() {
+            return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+        }
     }
 
+
     @Nested
     @DisplayName("Context Behavior Tests")
     class ContextBehaviorTests {
@@ -263,6 +331,81 @@ class GameStateTest {
             assertEquals("TIGHT", context.getGuesses().get(2).getWord());
         }
 
+        @Test
+        @DisplayName("Only the guess that wins or loses the game should report ending it")
+        void testEndedGame() {
+            GameStateContext won = new GameStateContext("test-15", "APPLE", 6);
+            assertFalse(won.makeGuess("PAPAL").endedGame());
+            assertTrue(won.makeGuess("APPLE").endedGame());
+            assertEquals(List.of(false, true), won.getGuessResults().stream().map(GuessResult::endedGame).toList());
+
+            GameStateContext lost = new GameStateContext("test-16", "APPLE", 2);
+            assertFalse(lost.makeGuess("CRANE").endedGame());
+            GuessResult last = lost.makeGuess("LIGHT");
+            assertTrue(last.endedGame());
+            assertFalse(last.isSolved());
+
+            GameStateContext active = new GameStateContext("test-17", "APPLE", 6);
+            active.makeGuess("CRANE");
+            assertFalse(active.getGuessResults().get(0).endedGame());
+        }
+
+        @Test
+        @DisplayName("A failing guess listener should leave the game unchanged")
+        void testFailingListenerRejectsGuess() {
+            GameStateContext context = new GameStateContext("test-18", "APPLE", 6);
+            context.setGuessListener((game, attempt, wordCode) -> {
+                throw new IllegalStateException("journal failed");
+            });
+
+            assertThrows(IllegalStateException.class, () -> context.makeGuess("APPLE"));
+
+            assertEquals(0, context.getCurrentAttempt());
+            assertEquals("ACTIVE", context.getStateName());
+            assertTrue(context.getAggregateLetterStatuses().values().stream()
+                    .allMatch(status -> status == LetterStatus.UNKNOWN));
+        }
+
+        @Test
+        @DisplayName("Should keep guess letter statuses and packed patterns")
+        void testGuessPatterns() {
+            GameStateContext context = new GameStateContext("test-12", "APPLE", 6);
+
+            context.makeGuess("PAPAL");
+            context.makeGuess("APPLE");
+
+            assertEquals("YYG-Y", context.getGuessPatterns().get(0).toString());
+            assertTrue(context.getGuessPatterns().get(1).isSolved());
+            assertEquals(LetterStatus.CORRECT_POSITION, context.getGuesses().get(0).getLetter(2).getStatus());
+            assertEquals(LetterStatus.NOT_IN_WORD, context.getGuesses().get(0).getLetter(3).getStatus());
+        }
+
+        @Test
+        @DisplayName("Should apply a batch of guesses and stop at the guess that ends the game")
+        void testMakeGuessesStopsAtTerminalState() {
+            GameStateContext context = new GameStateContext("test-13", "APPLE", 6);
+            int[] results = new int[4];
+
+            int count = context.makeGuesses(List.of("PAPAL", "ZZZZZ", "APPLE", "CRANE"), guess -> guess.equals("ZZZZZ") ? null : DictionaryWord.of(guess), results);
+
+            assertEquals(3, count);
+            assertEquals(FeedbackPattern.evaluate("APPLE", "PAPAL").getCode(), results[0]);
+            assertEquals(GameStateContext.REJECTED_GUESS, results[1]);
+            assertEquals(FeedbackPattern.ALL_CORRECT.getCode() | GameStateContext.ENDED_GAME, results[2]); // the game-ending guess
+            assertEquals(2, context.getCurrentAttempt()); // rejected guess doesn't use an attempt
+            assertEquals("WON", context.getStateName());
+        }
+
+        @Test
+        @DisplayName("Should apply no guesses from a batch once the game is over")
+        void testMakeGuessesAfterGameOver() {
+            GameStateContext context = new GameStateContext("test-14", "APPLE", 6);
+            context.makeGuess("APPLE");
+
+            assertEquals(0, context.makeGuesses(List.of("CRANE"), DictionaryWord::of, new int[1]));
+            assertEquals(1, context.getCurrentAttempt());
+        }
+
         @Test
         @DisplayName("Should track remaining attempts")
         void testRemainingAttempts() {
@@ -325,8 +468,50 @@ class GameStateTest {
         void testCaseInsensitiveGuesses() {
             GameStateContext context = new GameStateContext("test-15", "TENSE", 6);
 
-            PolywordicWord result = context.makeGuess("tense");
-            assertEquals("TENSE", result.getWord());
+            GuessResult result = context.makeGuess("tense");
+            assertEquals("TENSE", result.word());
+            assertTrue(result.isSolved());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Racing guesses on one game should never exceed max attempts")
+        void testConcurrentGuessesRespectMaxAttempts() throws Exception {
+            GameStateContext context = new GameStateContext("test-16", "SUPER", 6);
+            int threads = 32;
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        context.makeGuess("WRONG");
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            pool.shutdown();
+
+            assertEquals(6, accepted.get());
+            assertEquals(threads - 6, rejected.get());
+            assertEquals(6, context.getCurrentAttempt());
+            assertEquals("LOST", context.getStateName());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,180 @@
+package com.ooad_kd_yz.polywordic.store;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.ooad_kd_yz.polywordic.id.TimeBasedGameIdGenerator;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+
+    private static final String[] WORDS = {"APPLE", "CRANE", "LIGHT", "HOUSE", "PLANT", "STORM", "BRICK", "ZESTY"};
+
+    private static InMemoryGameStore store(long capacity) {
+        return new InMemoryGameStore(capacity, Duration.ofMinutes(30), System::nanoTime, Scheduler.disabledScheduler());
+    }
+
+    // Games in every state: fresh, part-played, won on a random attempt, and lost after all attempts
+    private static InMemoryGameStore syntheticGames(int count) {
+        InMemoryGameStore games = store(count);
+        TimeBasedGameIdGenerator ids = new TimeBasedGameIdGenerator(1);
+        Random random = new Random(42);
+        for (int i = 0; i < count; i++) {
+            long key = ids.nextId();
+            String target = WORDS[random.nextInt(WORDS.length)];
+            GameStateContext game = new GameStateContext(ids.format(key), target, 6);
+            int guesses = random.nextInt(7);
+            for (int attempt = 0; attempt < guesses && !game.isGameOver(); attempt++) {
+                game.makeGuess(WORDS[random.nextInt(WORDS.length)]);
+            }
+            games.put(key, game);
+        }
+        return games;
+    }
+
+    private static void assertSameGame(GameStateContext expected, GameStateContext actual) {
+        assertEquals(expected.getGameId(), actual.getGameId());
+        assertEquals(expected.getTargetWordString(), actual.getTargetWordString());
+        assertEquals(expected.getMaxAttempts(), actual.getMaxAttempts());
+        assertEquals(expected.getCurrentAttempt(), actual.getCurrentAttempt());
+        assertEquals(expected.getStateName(), actual.getStateName());
+        assertEquals(expected.getGuessPatterns(), actual.getGuessPatterns());
+        assertEquals(expected.getAggregateLetterStatuses(), actual.getAggregateLetterStatuses());
+        for (int i = 0; i < expected.getCurrentAttempt(); i++) {
+            assertEquals(expected.getGuesses().get(i).getWord(), actual.getGuesses().get(i).getWord());
+        }
+    }
+
+    @Test
+    @DisplayName("Every game should come back from a snapshot with the same guesses, feedback and state")
+    void testRoundTrip(@TempDir Path dir) throws IOException {
+        InMemoryGameStore games = syntheticGames(10_000);
+        Path file = dir.resolve("games.bin");
+        assertEquals(10_000, GameSnapshot.write(file, games));
+
+        ConcurrentHashMap<Long, GameStateContext> restored = new ConcurrentHashMap<>();
+        assertEquals(10_000, GameSnapshot.read(file, IFeedbackEvaluator.COMPUTED, restored::put));
+
+        assertEquals(10_000, restored.size());
+        games.forEach((key, game) -> assertSameGame(game, restored.get(key)));
+    }
+
+    @Test
+    @DisplayName("A restored game should keep playing from where it stopped")
+    void testRestoredGamePlays(@TempDir Path dir) throws IOException {
+        InMemoryGameStore games = store(10);
+        GameStateContext game = new GameStateContext("g1", "APPLE", 6);
+        game.makeGuess("CRANE");
+        games.put(1L, game);
+        Path file = dir.resolve("games.bin");
+        GameSnapshot.write(file, games);
+
+        ConcurrentHashMap<Long, GameStateContext> restored = new ConcurrentHashMap<>();
+        GameSnapshot.read(file, IFeedbackEvaluator.COMPUTED, restored::put);
+
+        GameStateContext resumed = restored.get(1L);
+        assertFalse(resumed.isGameOver());
+        resumed.makeGuess("APPLE");
+        assertTrue(resumed.isWon());
+        assertEquals(2, resumed.getCurrentAttempt());
+    }
+
+    @Test
+    @DisplayName("A corrupted snapshot should be rejected rather than half-loaded")
+    void testCorruptSnapshot(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        GameSnapshot.write(file, syntheticGames(100));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), channel.size() - 1);
+        }
+        assertThrows(IOException.class, () -> GameSnapshot.read(file, IFeedbackEvaluator.COMPUTED, (key, game) -> { }));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 10);
+        }
+        assertThrows(IOException.class, () -> GameSnapshot.read(file, IFeedbackEvaluator.COMPUTED, (key, game) -> { }));
+    }
+
+    @Test
+    @DisplayName("An in-memory store should snapshot on close and restore on startup")
+    void testInMemoryStoreSnapshotOnClose(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        try (InMemoryGameStore games = new InMemoryGameStore(100, Duration.ofMinutes(30), System::nanoTime,
+                Scheduler.disabledScheduler(), key -> { }, file, Duration.ZERO, IFeedbackEvaluator.COMPUTED)) {
+            GameStateContext game = new GameStateContext("g1", "APPLE", 6);
+            games.put(1L, game);
+            game.makeGuess("CRANE");
+        }
+        assertTrue(Files.exists(file));
+
+        try (InMemoryGameStore games = new InMemoryGameStore(100, Duration.ofMinutes(30), System::nanoTime,
+                Scheduler.disabledScheduler(), key -> { }, file, Duration.ZERO, IFeedbackEvaluator.COMPUTED)) {
+            assertEquals(1, games.size());
+            assertEquals("CRANE", games.get(1L).getGuesses().get(0).getWord());
+        }
+    }
+
+    @Test
+    @DisplayName("Closing a store while periodic snapshots are running should leave a complete snapshot")
+    void testCloseDuringPeriodicSnapshots(@TempDir Path dir) throws IOException, InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            Path file = dir.resolve("games-" + round + ".bin");
+            InMemoryGameStore games = new InMemoryGameStore(100_000, Duration.ofMinutes(30), System::nanoTime,
+                    Scheduler.disabledScheduler(), key -> { }, file, Duration.ofMillis(1), IFeedbackEvaluator.COMPUTED);
+            for (long key = 0; key < 50_000; key++) {
+                games.put(key, new GameStateContext("g" + key, "APPLE", 6));
+            }
+            Thread.sleep(round % 4); // vary where close lands relative to the running snapshot
+            games.close();
+
+            assertEquals(50_000, GameSnapshot.read(file, IFeedbackEvaluator.COMPUTED, (key, game) -> { }));
+        }
+    }
+
+    // Excluded from ./gradlew test; run with ./gradlew loadTest
+    @Test
+    @Tag("load")
+    @DisplayName("A million games should snapshot in under a second and restore in under two")
+    void testMillionGames(@TempDir Path dir) throws IOException {
+        int count = 1_000_000;
+        InMemoryGameStore games = syntheticGames(count);
+        Path file = dir.resolve("games.bin");
+
+        // warm-up pass so the timed pass measures compiled code; each timed pass starts from a collected heap
+        GameSnapshot.write(file, games);
+        GameSnapshot.read(file, IFeedbackEvaluator.COMPUTED, (key, game) -> { });
+        System.gc();
+
+        long start = System.nanoTime();
+        assertEquals(count, GameSnapshot.write(file, games));
+        long writeMillis = (System.nanoTime() - start) / 1_000_000;
+
+        ConcurrentHashMap<Long, GameStateContext> restored = new ConcurrentHashMap<>(count * 2);
+        System.gc();
+        start = System.nanoTime();
+        assertEquals(count, GameSnapshot.read(file, IFeedbackEvaluator.COMPUTED, restored::put));
+        long readMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("%d games, %d MB: write %d ms, read %d ms%n", count, Files.size(file) >> 20, writeMillis, readMillis);
+        assertEquals(count, restored.size());
+        games.forEach((key, game) -> assertSameGame(game, restored.get(key)));
+        assertTrue(writeMillis < 1000, "snapshot took " + writeMillis + " ms");
+        assertTrue(readMillis < 2000, "restore took " + readMillis + " ms");
+    }
+}
@@ -0,0 +1,95 @@
+package com.ooad_kd_yz.polywordic.store;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryGameStoreTest {
+
+    private InMemoryGameStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryGameStore();
+    }
+
+    @Test
+    @DisplayName("Should store and retrieve a game by id")
+    void testPutAndGet() {
+        GameStateContext game = new GameStateContext("g1", "APPLE", 6);
+        store.put(1L, game);
+
+        assertSame(game, store.get(1L));
+        assertTrue(store.contains(1L));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Should return null for unknown game")
+    void testGetUnknown() {
+        assertNull(store.get(42L));
+        assertFalse(store.contains(42L));
+    }
+
+    @Test
+    @DisplayName("Should remove game and return it")
+    void testRemove() {
+        GameStateContext game = new GameStateContext("g1", "APPLE", 6);
+        store.put(1L, game);
+
+        assertSame(game, store.remove(1L));
+        assertNull(store.remove(1L));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("Should expire games that stay idle past the timeout")
+    void testIdleGamesExpire() {
+        AtomicLong nanos = new AtomicLong();
+        InMemoryGameStore idleStore = new InMemoryGameStore(100, Duration.ofMinutes(30), nanos::get, Scheduler.disabledScheduler());
+        idleStore.put(1L, new GameStateContext("idle", "APPLE", 6));
+        idleStore.put(2L, new GameStateContext("active", "APPLE", 6));
+
+        nanos.addAndGet(Duration.ofMinutes(20).toNanos());
+        assertNotNull(idleStore.get(2L)); // access resets the idle timer
+        nanos.addAndGet(Duration.ofMinutes(20).toNanos());
+        idleStore.cleanUp();
+
+        assertNull(idleStore.get(1L));
+        assertNotNull(idleStore.get(2L));
+        assertEquals(1, idleStore.size());
+        assertEquals(1, idleStore.getExpiredCount());
+        assertEquals(0, idleStore.getEvictedCount());
+    }
+
+    @Test
+    @DisplayName("Should evict games once max capacity is exceeded")
+    void testCapacityEviction() {
+        InMemoryGameStore boundedStore = new InMemoryGameStore(10, Duration.ofMinutes(30), System::nanoTime, Scheduler.disabledScheduler());
+        for (int i = 0; i < 15; i++) {
+            boundedStore.put(i, new GameStateContext("g" + i, "APPLE", 6));
+        }
+        boundedStore.cleanUp();
+
+        assertEquals(10, boundedStore.size());
+        assertEquals(5, boundedStore.getEvictedCount());
+        assertEquals(0, boundedStore.getExpiredCount());
+    }
+
+    @Test
+    @DisplayName("Explicit removal should not count as eviction")
+    void testRemoveIsNotEviction() {
+        store.put(1L, new GameStateContext("g1", "APPLE", 6));
+        store.remove(1L);
+
+        assertEquals(0, store.getEvictedCount());
+        assertEquals(0, store.getExpiredCount());
+    }
+}
@@ -0,0 +1,171 @@
+package com.ooad_kd_yz.polywordic.store;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournaledGameStoreTest {
+
+    private static JournaledGameStore open(Path dir) throws IOException {
+        return new JournaledGameStore(dir, Duration.ZERO, 1000, Duration.ofMinutes(30), System::nanoTime,
+                Scheduler.disabledScheduler(), IFeedbackEvaluator.COMPUTED);
+    }
+
+    private static GameStateContext game(String gameId) {
+        return new GameStateContext(gameId, "APPLE", 6);
+    }
+
+    private static List<String> files(Path dir) throws IOException {
+        try (Stream<Path> listing = Files.list(dir)) {
+            return listing.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Games, guesses and deletes should survive a crash")
+    void testRestoreFromJournal(@TempDir Path dir) throws IOException {
+        JournaledGameStore crashed = open(dir);
+        GameStateContext playing = game("playing");
+        crashed.put(1L, playing);
+        playing.makeGuess("CRANE");
+        playing.makeGuess("LIGHT");
+
+        GameStateContext won = game("won");
+        crashed.put(2L, won);
+        won.makeGuess("APPLE");
+
+        crashed.put(3L, game("deleted"));
+        crashed.remove(3L);
+        crashed.sync();
+        crashed.abandon();
+
+        try (JournaledGameStore store = open(dir)) {
+            assertEquals(2, store.size());
+            GameStateContext restored = store.get(1L);
+            assertEquals("playing", restored.getGameId());
+            assertEquals("APPLE", restored.getTargetWordString());
+            assertEquals(2, restored.getCurrentAttempt());
+            assertEquals("CRANE", restored.getGuesses().get(0).getWord());
+            assertFalse(restored.isGameOver());
+
+            assertTrue(store.get(2L).isWon());
+            assertNull(store.get(3L));
+
+            // restored games keep journaling
+            restored.makeGuess("APPLE");
+            store.sync();
+        }
+
+        try (JournaledGameStore store = open(dir)) {
+            assertTrue(store.get(1L).isWon());
+            assertEquals(3, store.get(1L).getCurrentAttempt());
+        }
+    }
+
+    @Test
+    @DisplayName("A snapshot should replace the segments it covers and restore the same games")
+    void testSnapshot(@TempDir Path dir) throws IOException {
+        JournaledGameStore store = open(dir);
+        for (long key = 0; key < 100; key++) {
+            GameStateContext game = game("g" + key);
+            store.put(key, game);
+            game.makeGuess("CRANE");
+        }
+        store.remove(7L);
+        store.snapshot();
+
+        store.get(8L).makeGuess("APPLE"); // after the snapshot, in the new segment
+        store.sync();
+        store.abandon();
+        assertEquals(List.of("segment-0000000002.log", "snapshot-0000000002.bin"), files(dir));
+
+        try (JournaledGameStore restored = open(dir)) {
+            assertEquals(99, restored.size());
+            assertNull(restored.get(7L));
+            assertEquals(1, restored.get(0L).getCurrentAttempt());
+            assertEquals("CRANE", restored.get(0L).getGuesses().get(0).getWord());
+            assertTrue(restored.get(8L).isWon());
+        }
+    }
+
+    @Test
+    @DisplayName("A clean shutdown should leave just a snapshot to load")
+    void testSnapshotOnClose(@TempDir Path dir) throws IOException {
+        try (JournaledGameStore store = open(dir)) {
+            GameStateContext game = game("g1");
+            store.put(1L, game);
+            game.makeGuess("CRANE");
+        }
+        assertEquals(List.of("segment-0000000002.log", "snapshot-0000000002.bin"), files(dir));
+        assertEquals(0, Files.size(dir.resolve("segment-0000000002.log")));
+
+        try (JournaledGameStore store = open(dir)) {
+            assertEquals(1, store.get(1L).getCurrentAttempt());
+        }
+    }
+
+    @Test
+    @DisplayName("Replay should stop cleanly at a torn record at the end of the journal")
+    void testTornTail(@TempDir Path dir) throws IOException {
+        JournaledGameStore crashed = open(dir);
+        crashed.put(1L, game("g1"));
+        crashed.get(1L).makeGuess("CRANE");
+        crashed.sync();
+        crashed.abandon();
+
+        Path segment = dir.resolve("segment-0000000001.log");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3); // crash in the middle of writing the guess record
+        }
+
+        try (JournaledGameStore store = open(dir)) {
+            assertEquals(1, store.size());
+            assertEquals(0, store.get(1L).getCurrentAttempt());
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent guesses should all be durable once sync returns")
+    void testConcurrentGroupCommit(@TempDir Path dir) throws Exception {
+        try (JournaledGameStore store = open(dir)) {
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            for (int t = 0; t < 8; t++) {
+                long base = t * 100L;
+                pool.execute(() -> {
+                    for (long key = base; key < base + 100; key++) {
+                        GameStateContext game = game("g" + key);
+                        store.put(key, game);
+                        game.makeGuess("CRANE");
+                        store.sync();
+                    }
+                });
+            }
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+        }
+
+        try (JournaledGameStore store = open(dir)) {
+            assertEquals(800, store.size());
+            for (long key = 0; key < 800; key++) {
+                assertEquals(1, store.get(key).getCurrentAttempt());
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.ooad_kd_yz.polywordic.store;
+
+import com.ooad_kd_yz.polywordic.id.TimeBasedGameIdGenerator;
+import com.ooad_kd_yz.polywordic.model.IFeedbackEvaluator;
+import com.ooad_kd_yz.polywordic.model.LetterStatus;
+import com.ooad_kd_yz.polywordic.state.GameStateContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapGameStoreTest {
+
+    private final TimeBasedGameIdGenerator ids = new TimeBasedGameIdGenerator(1);
+    private final AtomicLong nanos = new AtomicLong();
+
+    private OffHeapGameStore store(long capacity) {
+        return new OffHeapGameStore(capacity, Duration.ofMinutes(30), nanos::get, ids, IFeedbackEvaluator.COMPUTED);
+    }
+
+    private GameStateContext newGame(long key, String target) {
+        return new GameStateContext(ids.format(key), target, 6);
+    }
+
+    @Test
+    @DisplayName("A stored game should come back as a view with the same ID, target, guesses and state")
+    void testPutAndGet() {
+        OffHeapGameStore store = store(100);
+        long key = ids.nextId();
+        GameStateContext game = newGame(key, "APPLE");
+        game.makeGuess("CRANE");
+        store.put(key, game);
+
+        GameStateContext view = store.get(key);
+        assertNotSame(game, view);
+        assertEquals(game.getGameId(), view.getGameId());
+        assertEquals("APPLE", view.getTargetWordString());
+        assertEquals(6, view.getMaxAttempts());
+        assertEquals(1, view.getCurrentAttempt());
+        assertEquals("CRANE", view.getGuesses().get(0).getWord());
+        assertEquals(game.getKeyboardState(), view.getKeyboardState());
+        assertEquals("ACTIVE", view.getStateName());
+        assertTrue(store.contains(key));
+        assertEquals(1, store.size());
+        assertNull(store.get(key + 1));
+    }
+
+    @Test
+    @DisplayName("Guesses made through one view should be seen by every later view")
+    void testGuessesWriteThrough() {
+        OffHeapGameStore store = store(100);
+        long key = ids.nextId();
+        store.put(key, newGame(key, "APPLE"));
+
+        store.get(key).makeGuess("CRANE");
+        store.get(key).makeGuess("APPLE");
+
+        GameStateContext view = store.get(key);
+        assertEquals(2, view.getCurrentAttempt());
+        assertTrue(view.isWon());
+        assertEquals(LetterStatus.CORRECT_POSITION, view.getKeyboardState().statusOf('A'));
+        assertThrows(IllegalStateException.class, () -> view.makeGuess("LIGHT"));
+    }
+
+    @Test
+    @DisplayName("A lost game should be stored with its LOST state")
+    void testLostGame() {
+        OffHeapGameStore store = store(100);
+        long key = ids.nextId();
+        store.put(key, new GameStateContext(ids.format(key), "APPLE", 4));
+        for (int i = 0; i < 4; i++) {
+            store.get(key).makeGuess("CRANE");
+        }
+        assertEquals("LOST", store.get(key).getStateName());
+        assertEquals(0, store.get(key).getRemainingAttempts());
+    }
+
+    @Test
+    @DisplayName("Removing a game should free its slot for reuse and disable views of the removed game")
+    void testRemoveReusesSlot() {
+        OffHeapGameStore store = store(1);
+        long first = ids.nextId();
+        store.put(first, newGame(first, "APPLE"));
+        GameStateContext stale = store.get(first);
+
+        GameStateContext removed = store.remove(first);
+        assertEquals(ids.format(first), removed.getGameId());
+        assertNull(store.remove(first));
+        assertNull(store.get(first));
+
+        long second = ids.nextId();
+        store.put(second, newGame(second, "LIGHT")); // the only slot, reused
+        assertThrows(IllegalStateException.class, () -> stale.makeGuess("CRANE"));
+        assertEquals(0, store.get(second).getCurrentAttempt());
+        assertEquals("LIGHT", store.get(second).getTargetWordString());
+    }
+
+    @Test
+    @DisplayName("Put should fail once every slot holds a live game")
+    void testFull() {
+        OffHeapGameStore store = store(2);
+        for (int i = 0; i < 2; i++) {
+            long key = ids.nextId();
+            store.put(key, newGame(key, "APPLE"));
+        }
+        long key = ids.nextId();
+        assertThrows(IllegalStateException.class, () -> store.put(key, newGame(key, "APPLE")));
+        assertThrows(IllegalArgumentException.class, () -> store.put(key, new GameStateContext("long", "APPLE", 7)));
+    }
+
+    @Test
+    @DisplayName("Idle games should expire on lookup, and be swept to make room when the store is full")
+    void testIdleExpiry() {
+        OffHeapGameStore store = store(2);
+        long idle = ids.nextId();
+        long active = ids.nextId();
+        store.put(idle, newGame(idle, "APPLE"));
+        store.put(active, newGame(active, "APPLE"));
+
+        nanos.addAndGet(Duration.ofMinutes(20).toNanos());
+        assertNotNull(store.get(active));
+        nanos.addAndGet(Duration.ofMinutes(20).toNanos());
+
+        assertNull(store.get(idle));
+        assertEquals(1, store.getExpiredCount());
+        assertTrue(store.contains(active));
+
+        nanos.addAndGet(Duration.ofMinutes(30).toNanos());
+        long first = ids.nextId();
+        long second = ids.nextId();
+        store.put(first, newGame(first, "APPLE"));
+        store.put(second, newGame(second, "APPLE")); // full: sweeps the now-idle active game
+        assertEquals(2, store.getExpiredCount());
+        assertEquals(2, store.size());
+        assertFalse(store.contains(active));
+    }
+
+    @Test
+    @DisplayName("The slot index should agree with a HashMap through random puts and removes")
+    void testRandomPutsAndRemoves() {
+        OffHeapGameStore store = store(20_000);
+        Map<Long, String> expected = new HashMap<>();
+        String[] targets = {"APPLE", "CRANE", "LIGHT", "HOUSE"};
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(30_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, store.remove(key) != null);
+            } else if (expected.size() < 20_000 || expected.containsKey(key)) {
+                String target = targets[random.nextInt(targets.length)];
+                expected.put(key, target);
+                store.put(key, newGame(key, target));
+            }
+        }
+        assertEquals(expected.size(), store.size());
+        for (long key = 0; key < 30_000; key++) {
+            GameStateContext game = store.get(key);
+            assertEquals(expected.get(key), game == null ? null : game.getTargetWordString());
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent guesses on one game through separate views should never exceed max attempts")
+    void testConcurrentGuesses() throws InterruptedException {
+        OffHeapGameStore store = store(100);
+        long key = ids.nextId();
+        store.put(key, newGame(key, "ZESTY"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        for (int t = 0; t < 20; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    store.get(key).makeGuess("CRANE");
+                    accepted.incrementAndGet();
+                } catch (IllegalStateException | InterruptedException e) {
+                    // game over: expected for all but six threads
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(6, accepted.get());
+        assertEquals(6, store.get(key).getCurrentAttempt());
+        assertEquals("LOST", store.get(key).getStateName());
+    }
+}